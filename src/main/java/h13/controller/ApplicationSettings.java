@@ -95,6 +95,21 @@ public final class ApplicationSettings {
         return loadBackground;
     }
 
+    /**
+     * Whether to render the game at its native resolution and upscale it by an integer factor.
+     */
+    private static final BooleanProperty nativeResolution = new SimpleBooleanProperty(false);
+
+    /**
+     * Gets the {@link #nativeResolution}-property.
+     *
+     * @return The {@link #nativeResolution}-property.
+     * @see #nativeResolution
+     */
+    public static BooleanProperty nativeResolutionProperty() {
+        return nativeResolution;
+    }
+
     /**
      * Whether to enable instant shooting.
      */
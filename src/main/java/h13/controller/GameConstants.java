@@ -1,11 +1,17 @@
 package h13.controller;
 
 
+import h13.controller.gamelogic.PerformanceMonitor;
+import h13.model.gameplay.BulletPool;
 import h13.model.gameplay.Direction;
+import h13.shared.AssetCache;
+import h13.view.gui.RenderBackend;
 import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
 import javafx.scene.paint.Color;
 
+import java.util.List;
+
 /**
  * The {@link GameConstants} class contains all the constants that are used in the game.
  */
@@ -100,6 +106,12 @@ public final class GameConstants {
      */
     public static double ENEMY_SHOOTING_PROBABILITY = 0.0005;
 
+    /**
+     * The frame rate at which the enemy shooting probability was originally rolled once per frame.
+     * It is used to convert the probability into a frame-rate-independent rate.
+     */
+    public static double ENEMY_SHOOTING_REFERENCE_FRAME_RATE = 60;
+
     /**
      * The Player's velocity (in pixels per second).
      */
@@ -110,6 +122,16 @@ public final class GameConstants {
      */
     public static double BULLET_VELOCITY = 0.75 * ORIGINAL_GAME_BOUNDS.getWidth();
 
+    /**
+     * The maximum amount of pooled bullets that can be live at the same time.
+     */
+    public static int MAX_LIVE_BULLETS = 64;
+
+    /**
+     * What happens to a new shot when {@link #MAX_LIVE_BULLETS} bullets are live.
+     */
+    public static BulletPool.EvictionPolicy BULLET_POOL_EVICTION_POLICY = BulletPool.EvictionPolicy.RECYCLE_OLDEST;
+
     /**
      * The HUD font path.
      */
@@ -138,12 +160,138 @@ public final class GameConstants {
     /**
      * The HUD font.
      */
-    public static javafx.scene.text.Font HUD_FONT = javafx.scene.text.Font.loadFont(GameConstants.class.getResourceAsStream(GameConstants.HUD_FONT_PATH), HUD_FONT_SIZE);
+    public static javafx.scene.text.Font HUD_FONT = AssetCache.getFont(HUD_FONT_PATH, HUD_FONT_SIZE);
 
     /**
      * The HUD font.
      */
-    public static javafx.scene.text.Font TITLE_FONT = javafx.scene.text.Font.loadFont(GameConstants.class.getResourceAsStream(GameConstants.HUD_FONT_PATH), 30);
+    public static javafx.scene.text.Font TITLE_FONT = AssetCache.getFont(HUD_FONT_PATH, 30);
+
+    /**
+     * The path of the wallpaper that is drawn behind the game board.
+     */
+    public static String BACKGROUND_IMAGE_PATH = "/h13/images/wallpapers/Galaxy3.jpg";
+
+    /**
+     * The sprite textures that are preloaded while the main menu is shown.
+     */
+    public static List<String> SPRITE_TEXTURE_PATHS = List.of(
+        "/h13/images/sprites/enemy1.png",
+        "/h13/images/sprites/enemy2.png",
+        "/h13/images/sprites/player.png"
+    );
+
+    /**
+     * The wallpapers that are preloaded while the main menu is shown.
+     */
+    public static List<String> WALLPAPER_PATHS = List.of(
+        "/h13/images/wallpapers/Galaxy1.jpg",
+        "/h13/images/wallpapers/Galaxy2.jpg",
+        "/h13/images/wallpapers/Galaxy3.jpg"
+    );
+
+    /**
+     * The amount of simulation ticks per second.
+     */
+    public static double SIMULATION_TICK_RATE = 120;
+
+    /**
+     * The maximum amount of time (in seconds) that is simulated per update, to avoid a spiral of death after long hitches.
+     */
+    public static double MAX_SIMULATION_STEP = 0.25;
+
+    /**
+     * Whether the game is simulated on a {@link h13.controller.gamelogic.SimulationThread} instead of the JavaFX Application
+     * Thread.
+     */
+    public static boolean THREADED_SIMULATION = true;
+
+    /**
+     * The amount of key events the {@link h13.controller.gamelogic.InputQueue} can hold between two simulation ticks.
+     */
+    public static int INPUT_QUEUE_CAPACITY = 256;
+
+    /**
+     * The range (in nanoseconds) covered by each bucket of the input latency histograms.
+     */
+    public static long LATENCY_HISTOGRAM_BUCKET_WIDTH = 250_000;
+
+    /**
+     * The amount of buckets of the input latency histograms. Latencies beyond the last bucket are counted in it.
+     */
+    public static int LATENCY_HISTOGRAM_BUCKET_COUNT = 2_000;
+
+    /**
+     * The range (in nanoseconds) covered by each bucket of the phase duration histograms.
+     */
+    public static long PHASE_HISTOGRAM_BUCKET_WIDTH = 5_000;
+
+    /**
+     * The amount of buckets of the phase duration histograms. Durations beyond the last bucket are counted in it.
+     */
+    public static int PHASE_HISTOGRAM_BUCKET_COUNT = 4_000;
+
+    /**
+     * The time (in seconds) over which the frame rate, the tick rate and the phase durations are aggregated.
+     */
+    public static double METRICS_WINDOW = 1;
+
+    /**
+     * The time (in seconds) between two exports of the performance metrics, or {@code 0} to disable the export.
+     */
+    public static double METRICS_EXPORT_INTERVAL = 0;
+
+    /**
+     * The format the performance metrics are exported in.
+     */
+    public static PerformanceMonitor.ExportFormat METRICS_EXPORT_FORMAT = PerformanceMonitor.ExportFormat.CSV;
+
+    /**
+     * The time (in seconds) a frame has to take to be considered a hitch, which makes the
+     * {@link h13.controller.gamelogic.HitchRecorder} dump the preceding frames.
+     */
+    public static double HITCH_THRESHOLD = 0.05;
+
+    /**
+     * The amount of frames the {@link h13.controller.gamelogic.HitchRecorder} keeps.
+     */
+    public static int HITCH_RECORDER_FRAMES = 240;
+
+    /**
+     * The time (in seconds) between two refreshes of the text of the {@link h13.view.gui.DebugOverlay}.
+     */
+    public static double DEBUG_OVERLAY_REFRESH_INTERVAL = 0.25;
+
+    /**
+     * The directory the performance reports are written to, relative to the working directory.
+     */
+    public static String REPORT_DIRECTORY = "reports";
+
+    /**
+     * The amount of slots of the {@link h13.model.gameplay.TimerWheel}.
+     */
+    public static int TIMER_WHEEL_SLOTS = 256;
+
+    /**
+     * The {@link RenderBackend} the sprites are drawn with.
+     */
+    public static RenderBackend.Type RENDER_BACKEND = RenderBackend.Type.CANVAS;
+
+    /**
+     * The height (in pixels) of the horizontal tiles the {@link h13.view.gui.SoftwareRenderBackend} rasterizes in parallel.
+     */
+    public static int SOFTWARE_RENDER_TILE_HEIGHT = 16;
+
+    /**
+     * The fraction of the board that may be dirty before the {@link h13.view.gui.DirtyRectRenderBackend} redraws the whole board.
+     */
+    public static double DIRTY_RECT_FULL_REDRAW_THRESHOLD = 0.5;
+
+    /**
+     * The time (in seconds) the size of the {@link h13.view.gui.GameBoard} has to stay the same before the pre-scaled
+     * texture variants are regenerated.
+     */
+    public static double TEXTURE_VARIANT_DEBOUNCE = 0.2;
 
     /**
      * Border width.
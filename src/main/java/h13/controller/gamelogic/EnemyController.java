@@ -1,9 +1,9 @@
 package h13.controller.gamelogic;
 
-import h13.controller.scene.game.GameController;
 import h13.model.gameplay.EnemyMovement;
 import h13.model.gameplay.sprites.Bullet;
 import h13.model.gameplay.sprites.Enemy;
+import h13.shared.jfr.LevelTransitionEvent;
 
 import static h13.controller.GameConstants.*;
 import static org.tudalgo.algoutils.student.Student.crash;
@@ -17,19 +17,19 @@ public final class EnemyController {
     // --Variables-- //
 
     /**
-     * The {@link GameController}.
+     * The {@link GameContext} this controller belongs to.
      */
-    private final GameController gameController;
+    private final GameContext gameController;
 
     // --Constructors-- //
 
     /**
      * Creates a new EnemyController.
      *
-     * @param gameController The {@linkplain GameController game controller}.
+     * @param gameController The {@link GameContext} this controller belongs to.
      */
     public EnemyController(
-        final GameController gameController) {
+        final GameContext gameController) {
         this.gameController = gameController;
         nextLevel();
     }
@@ -42,7 +42,7 @@ public final class EnemyController {
      * @return The value of {@link #gameController} field.
      * @see #gameController
      */
-    public GameController getGameController() {
+    public GameContext getGameController() {
         return gameController;
     }
 
@@ -56,7 +56,7 @@ public final class EnemyController {
      * @see Enemy#isDead()
      */
     public boolean isDefeated() {
-        return gameController.getGameState().getAliveEnemies().size() == 0;
+        return gameController.getGameState().getAliveEnemyCount() == 0;
     }
 
     // --Other Methods-- //
@@ -66,8 +66,13 @@ public final class EnemyController {
      * Also resets the {@link EnemyMovement} using {@link EnemyMovement#nextRound()}.
      */
     public void nextLevel() {
+        final LevelTransitionEvent event = new LevelTransitionEvent();
+        event.begin();
+        final int spritesBefore = getGameController().getGameState().getSprites().size();
+
         // cleanup previous level
         getGameController().getGameState().getSprites().removeIf(s -> s instanceof Bullet b && b.getOwner() instanceof Enemy);
+        final int removedBullets = spritesBefore - getGameController().getGameState().getSprites().size();
 
         // add new enemies
         final var padding = CHUNK_SIZE / 2 - SHIP_SIZE / 2;
@@ -89,5 +94,13 @@ public final class EnemyController {
         }
         // reset enemy movement
         getGameController().getGameState().getEnemyMovement().nextRound();
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.removedBullets = removedBullets;
+            event.spawnedEnemies = ENEMY_COLS * ENEMY_ROWS;
+            event.spriteCount = getGameController().getGameState().getSprites().size();
+            event.commit();
+        }
     }
 }
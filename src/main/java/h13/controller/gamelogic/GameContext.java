@@ -0,0 +1,23 @@
+package h13.controller.gamelogic;
+
+import h13.model.gameplay.GameState;
+
+/**
+ * A {@link GameContext} provides access to the model and the input of a running game.
+ * It is implemented by the headless {@link GameSimulation} and by the JavaFX {@link h13.controller.scene.game.GameController}.
+ */
+public interface GameContext {
+    /**
+     * Gets the {@link GameState} of the game.
+     *
+     * @return The {@link GameState} of the game.
+     */
+    GameState getGameState();
+
+    /**
+     * Gets the {@link GameInputHandler} that handles the input of the player.
+     *
+     * @return The {@link GameInputHandler} that handles the input of the player.
+     */
+    GameInputHandler getGameInputHandler();
+}
@@ -6,21 +6,54 @@ import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
 
+import static h13.controller.GameConstants.INPUT_QUEUE_CAPACITY;
+
 /**
  * A {@link GameInputHandler} is responsible for handling the input from the user on a {@link GameScene}.
+ * <br>
+ * Key events that affect the game are {@linkplain #queueKeyEvent(KeyEvent) stamped with their arrival time and queued} in an
+ * {@link InputQueue} by the handlers registered for them. The simulation {@linkplain #pollInputs(long) polls} the queue at the
+ * start of each tick and applies the events to the {@link #keysPressed}, so the keys it sees only change at tick boundaries,
+ * no matter on which thread it runs.
  */
 public class GameInputHandler {
     // --Variables-- //
 
     /**
-     * The keys that were pressed during the last frame.
-     * When a key is pressed, it is added to this list after the onKeyPressed event is handled.
+     * The keys that are pressed in the current simulation tick.
+     * A queued key event is applied to this set when the simulation {@linkplain #pollInputs(long) polls} it, so it must only
+     * be accessed by the thread that runs the simulation.
+     */
+    private final Set<KeyCode> keysPressed = EnumSet.noneOf(KeyCode.class);
+
+    /**
+     * The key events that were not yet applied to the {@link #keysPressed}.
+     */
+    private final InputQueue inputQueue = new InputQueue(INPUT_QUEUE_CAPACITY);
+
+    /**
+     * The {@link InputLatencyTracker} that measures the latency of the key events of this session.
+     */
+    private final InputLatencyTracker inputLatency = new InputLatencyTracker();
+
+    /**
+     * Applies a drained key event to the {@link #keysPressed}. It is created once, so polling does not allocate.
+     */
+    private final InputQueue.Consumer applyEvent = this::applyEvent;
+
+    /**
+     * The tick of the current {@link #pollInputs(long)}.
+     */
+    private long pollTick;
+
+    /**
+     * The time of the current {@link #pollInputs(long)}.
      */
-    private final Set<KeyCode> keysPressed = new HashSet<>();
+    private long pollTime;
 
     /**
      * A List of {@linkplain EventHandler event handlers} that are called when a key is pressed.
@@ -39,6 +72,13 @@ public class GameInputHandler {
 
     // --Constructors-- //
 
+    /**
+     * Creates a new {@link GameInputHandler} that is not attached to any scene.
+     * Key events can be fed manually using {@link #handleKeyPressed(KeyEvent)} and {@link #handleKeyReleased(KeyEvent)}.
+     */
+    public GameInputHandler() {
+    }
+
     /**
      * Creates a new {@link GameInputHandler}.
      *
@@ -60,6 +100,26 @@ public class GameInputHandler {
         return keysPressed;
     }
 
+    /**
+     * Gets the value of {@link #inputQueue} field.
+     *
+     * @return The value of {@link #inputQueue} field.
+     * @see #inputQueue
+     */
+    public InputQueue getInputQueue() {
+        return inputQueue;
+    }
+
+    /**
+     * Gets the value of {@link #inputLatency} field.
+     *
+     * @return The value of {@link #inputLatency} field.
+     * @see #inputLatency
+     */
+    public InputLatencyTracker getInputLatency() {
+        return inputLatency;
+    }
+
     // --Methods-- //
 
     /**
@@ -92,20 +152,79 @@ public class GameInputHandler {
         onKeyTyped.add(eventHandler);
     }
 
+    /**
+     * Queues the given key press or release, so it is applied to the {@link #keysPressed} at the start of the next tick.
+     * Must only be called by the JavaFX Application Thread.
+     *
+     * @param e The {@link KeyEvent} to queue.
+     */
+    public void queueKeyEvent(final KeyEvent e) {
+        inputQueue.offer(e.getCode(), e.getEventType() == KeyEvent.KEY_PRESSED, System.nanoTime());
+    }
+
+    /**
+     * Handles a key press by notifying the {@link #onKeyPressed} handlers.
+     *
+     * @param e The {@link KeyEvent} to handle.
+     */
+    public void handleKeyPressed(final KeyEvent e) {
+        onKeyPressed.forEach(eventHandler -> eventHandler.handle(e));
+    }
+
+    /**
+     * Handles a key release by notifying the {@link #onKeyReleased} handlers.
+     *
+     * @param e The {@link KeyEvent} to handle.
+     */
+    public void handleKeyReleased(final KeyEvent e) {
+        onKeyReleased.forEach(eventHandler -> eventHandler.handle(e));
+    }
+
+    /**
+     * Handles a typed key by notifying the {@link #onKeyTyped} handlers.
+     *
+     * @param e The {@link KeyEvent} to handle.
+     */
+    public void handleKeyTyped(final KeyEvent e) {
+        onKeyTyped.forEach(eventHandler -> eventHandler.handle(e));
+    }
+
+    /**
+     * Applies all queued key events to the {@link #keysPressed} and reports them to the {@link #inputLatency}. Must be called by
+     * the thread that runs the simulation, at the start of a tick.
+     *
+     * @param tick The tick the events are applied in.
+     * @return {@code true} if any event was applied, {@code false} if the queue was empty.
+     */
+    public boolean pollInputs(final long tick) {
+        pollTick = tick;
+        pollTime = System.nanoTime();
+        return inputQueue.drain(applyEvent) > 0;
+    }
+
+    /**
+     * Applies a single drained key event to the {@link #keysPressed}. Only events that change the pressed keys are reported
+     * to the {@link #inputLatency}, repeated presses of a held key do not affect the game.
+     *
+     * @param code      The key of the event.
+     * @param pressed   {@code true} if the key was pressed, {@code false} if it was released.
+     * @param timestamp The {@link System#nanoTime()} at which the event arrived.
+     */
+    private void applyEvent(final KeyCode code, final boolean pressed, final long timestamp) {
+        final boolean changed = pressed ? keysPressed.add(code) : keysPressed.remove(code);
+        if (changed) {
+            inputLatency.applied(timestamp, pollTime, pollTick);
+        }
+    }
+
     /**
      * Set up the keyboard handlers for the given scene.
      *
      * @param scene The scene to handle input for.
      */
     private void handleKeyboardInputs(final GameScene scene) {
-        scene.setOnKeyPressed(e -> {
-            keysPressed.add(e.getCode());
-            onKeyPressed.forEach(eventHandler -> eventHandler.handle(e));
-        });
-        scene.setOnKeyReleased(e -> {
-            keysPressed.remove(e.getCode()); // remove the key from the list of pressed keys
-            onKeyReleased.forEach(eventHandler -> eventHandler.handle(e));
-        });
-        scene.setOnKeyTyped(e -> onKeyTyped.forEach(eventHandler -> eventHandler.handle(e)));
+        scene.setOnKeyPressed(this::handleKeyPressed);
+        scene.setOnKeyReleased(this::handleKeyReleased);
+        scene.setOnKeyTyped(this::handleKeyTyped);
     }
 }
@@ -0,0 +1,329 @@
+package h13.controller.gamelogic;
+
+import h13.model.gameplay.GameSnapshot;
+import h13.model.gameplay.GameState;
+import h13.model.gameplay.Updatable;
+import h13.model.gameplay.sprites.Player;
+import h13.model.gameplay.sprites.Sprite;
+import h13.shared.jfr.TickEvent;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static h13.controller.GameConstants.MAX_SIMULATION_STEP;
+import static h13.controller.GameConstants.METRICS_WINDOW;
+import static h13.controller.GameConstants.SIMULATION_TICK_RATE;
+
+/**
+ * A {@link GameSimulation} is the core of the game logic. It owns the {@link GameState}, the {@link PlayerController} and the
+ * {@link EnemyController} and advances the game in fixed ticks.
+ * <br>
+ * The simulation does not depend on a {@link javafx.stage.Stage} or the JavaFX application thread, so it can also be run
+ * headless and much faster than real time by calling {@link #tick()} directly.
+ * Headless runs should disable {@link h13.controller.ApplicationSettings#loadTexturesProperty()}.
+ */
+public class GameSimulation implements GameContext, Updatable {
+
+    // --Variables-- //
+
+    /**
+     * The {@link GameState} that is simulated.
+     */
+    private final GameState gameState;
+
+    /**
+     * The {@link GameInputHandler} that handles the input of the player.
+     */
+    private final GameInputHandler gameInputHandler;
+
+    /**
+     * The {@link PlayerController} that controls the {@link h13.model.gameplay.sprites.Player}.
+     */
+    private final PlayerController playerController;
+
+    /**
+     * The {@link EnemyController} that controls the {@link h13.model.gameplay.sprites.Enemy}s.
+     */
+    private final EnemyController enemyController;
+
+    /**
+     * The duration of a single tick in seconds.
+     */
+    private final double tickDuration;
+
+    /**
+     * The elapsed time (in seconds) that was not yet simulated.
+     */
+    private double accumulator = 0;
+
+    /**
+     * The amount of ticks that were simulated so far.
+     */
+    private long tickCount = 0;
+
+    /**
+     * Whether the game is lost.
+     */
+    private boolean gameOver = false;
+
+    /**
+     * The durations of the phases of every tick. They are published every {@link #ticksPerWindow} ticks.
+     */
+    private final PhaseMetrics phaseMetrics = new PhaseMetrics();
+
+    /**
+     * The amount of ticks per {@link h13.controller.GameConstants#METRICS_WINDOW}.
+     */
+    private final long ticksPerWindow;
+
+    // --Constructors-- //
+
+    /**
+     * Creates a new headless {@link GameSimulation} with a new {@link GameState} and a detached {@link GameInputHandler}.
+     */
+    public GameSimulation() {
+        this(new GameState(), new GameInputHandler());
+    }
+
+    /**
+     * Creates a new {@link GameSimulation} running at {@link h13.controller.GameConstants#SIMULATION_TICK_RATE} ticks per second.
+     *
+     * @param gameState        The {@link GameState} to simulate.
+     * @param gameInputHandler The {@link GameInputHandler} that handles the input of the player.
+     */
+    public GameSimulation(final GameState gameState, final GameInputHandler gameInputHandler) {
+        this(gameState, gameInputHandler, SIMULATION_TICK_RATE);
+    }
+
+    /**
+     * Creates a new {@link GameSimulation}.
+     *
+     * @param gameState        The {@link GameState} to simulate.
+     * @param gameInputHandler The {@link GameInputHandler} that handles the input of the player.
+     * @param tickRate         The amount of ticks per second.
+     */
+    public GameSimulation(final GameState gameState, final GameInputHandler gameInputHandler, final double tickRate) {
+        this.gameState = gameState;
+        this.gameInputHandler = gameInputHandler;
+        this.tickDuration = 1 / tickRate;
+        this.ticksPerWindow = Math.max(1, Math.round(METRICS_WINDOW * tickRate));
+        gameState.getTimerWheel().setTickDuration(tickDuration);
+        this.playerController = new PlayerController(this);
+        this.enemyController = new EnemyController(this);
+    }
+
+    // --Getters and Setters-- //
+
+    @Override
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    @Override
+    public GameInputHandler getGameInputHandler() {
+        return gameInputHandler;
+    }
+
+    /**
+     * Gets the value of {@link #playerController} field.
+     *
+     * @return The value of {@link #playerController} field.
+     * @see #playerController
+     */
+    public PlayerController getPlayerController() {
+        return playerController;
+    }
+
+    /**
+     * Gets the value of {@link #enemyController} field.
+     *
+     * @return The value of {@link #enemyController} field.
+     * @see #enemyController
+     */
+    public EnemyController getEnemyController() {
+        return enemyController;
+    }
+
+    /**
+     * Gets the value of {@link #tickDuration} field.
+     *
+     * @return The value of {@link #tickDuration} field.
+     * @see #tickDuration
+     */
+    public double getTickDuration() {
+        return tickDuration;
+    }
+
+    /**
+     * Gets the value of {@link #tickCount} field.
+     *
+     * @return The value of {@link #tickCount} field.
+     * @see #tickCount
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Gets the value of {@link #phaseMetrics} field.
+     *
+     * @return The value of {@link #phaseMetrics} field.
+     * @see #phaseMetrics
+     */
+    public PhaseMetrics getPhaseMetrics() {
+        return phaseMetrics;
+    }
+
+    /**
+     * Checks whether the game is lost.
+     *
+     * @return {@code true} if the game is lost, {@code false} otherwise.
+     * @see #gameOver
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Gets the fraction of a tick that is left in the {@link #accumulator}. It is used to interpolate the rendered positions
+     * between the last two ticks.
+     *
+     * @return The interpolation factor, between {@code 0} and {@code 1}.
+     * @see Sprite#getInterpolatedX(double)
+     */
+    public double getInterpolationAlpha() {
+        return gameOver ? 1 : Math.min(1, accumulator / tickDuration);
+    }
+
+    // --Simulation-- //
+
+    /**
+     * Adds the given elapsed time to the {@link #accumulator} and simulates as many fixed ticks as fit into it.
+     * The elapsed time is capped at {@link h13.controller.GameConstants#MAX_SIMULATION_STEP}.
+     *
+     * @param elapsedTime The time elapsed since the last update in seconds.
+     */
+    @Override
+    public void update(final double elapsedTime) {
+        accumulator += Math.min(elapsedTime, MAX_SIMULATION_STEP);
+        while (accumulator >= tickDuration && !gameOver) {
+            tick();
+            accumulator -= tickDuration;
+        }
+    }
+
+    /**
+     * Simulates a single tick of {@link #tickDuration} seconds.
+     */
+    public void tick() {
+        if (gameOver) {
+            return;
+        }
+        tickCount++;
+        final TickEvent event = new TickEvent();
+        event.begin();
+        long phaseStart = System.nanoTime();
+
+        // Input, applied once per tick so every tick sees a stable set of keys
+        getPlayerController().applyInput(tickCount);
+        phaseStart = recordPhase(PhaseMetrics.Phase.INPUT, phaseStart);
+
+        // Add new Sprites
+        getGameState().getSprites().addAll(getGameState().getToAdd());
+        getGameState().getToAdd().clear();
+        phaseStart = recordPhase(PhaseMetrics.Phase.SPAWN, phaseStart);
+
+        // Interpolation, the renderer blends between the positions before and after this tick
+        getGameState().getSprites().forEach(Sprite::storePreviousPosition);
+
+        // Movement
+        getGameState().getEnemyMovement().update(tickDuration);
+        getGameState().getSprites().forEach(s -> s.update(tickDuration));
+
+        // Timed events
+        getGameState().getTimerWheel().advance();
+        phaseStart = recordPhase(PhaseMetrics.Phase.UPDATE, phaseStart);
+
+        // Hit detection
+        doCollisions();
+        phaseStart = recordPhase(PhaseMetrics.Phase.COLLISIONS, phaseStart);
+
+        final List<Sprite> killed = getGameState().getSprites().stream().filter(Sprite::isDead).collect(Collectors.toList());
+        getPlayerController().updatePoints(killed);
+
+        // check loose condition
+        if (killed.contains(getPlayerController().getPlayer()) || getGameState().getEnemyMovement().bottomWasReached()) {
+            gameOver = true;
+        }
+
+        killed.forEach(getGameState().getSprites()::remove);
+        phaseStart = recordPhase(PhaseMetrics.Phase.SWEEP, phaseStart);
+
+        refillEnemiesIfNecessary();
+        recordPhase(PhaseMetrics.Phase.REFILL, phaseStart);
+
+        if (tickCount % ticksPerWindow == 0) {
+            phaseMetrics.publish();
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.tick = tickCount;
+            event.spriteCount = getGameState().getSprites().size();
+            event.bulletCount = getGameState().getBullets().size();
+            event.enemyCount = getGameState().getAliveEnemyCount();
+            event.commit();
+        }
+    }
+
+    /**
+     * Records the duration of the given phase in the {@link #phaseMetrics}.
+     *
+     * @param phase      The phase that ended.
+     * @param phaseStart The {@link System#nanoTime()} at which the phase started.
+     * @return The {@link System#nanoTime()} at which the phase ended, which is the start of the next phase.
+     */
+    private long recordPhase(final PhaseMetrics.Phase phase, final long phaseStart) {
+        final long now = System.nanoTime();
+        phaseMetrics.record(phase, now - phaseStart);
+        return now;
+    }
+
+    /**
+     * Overwrites the given {@link GameSnapshot} with the current state, so it can be rendered on another thread.
+     *
+     * @param snapshot The snapshot to fill.
+     */
+    public void fillSnapshot(final GameSnapshot snapshot) {
+        final Player player = getPlayerController().getPlayer();
+        snapshot.set(getGameState().getSprites(), player.getScore(), player.getHealth(), tickCount, tickDuration,
+            System.nanoTime(), gameOver);
+    }
+
+    /**
+     * Creates a new {@link GameSnapshot} of the current state, which can be rendered on another thread.
+     *
+     * @return The created snapshot.
+     */
+    public GameSnapshot createSnapshot() {
+        final GameSnapshot snapshot = new GameSnapshot();
+        fillSnapshot(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Calculate the collision between the sprites and damages the collided sprites.
+     */
+    public void doCollisions() {
+        getGameState().getCollisionGrid().doCollisions(getGameState().getSprites());
+    }
+
+    /**
+     * Prepares the next level if the current level is finished.
+     */
+    public void refillEnemiesIfNecessary() {
+        if (getEnemyController().isDefeated()) {
+            getEnemyController().nextLevel();
+        }
+    }
+}
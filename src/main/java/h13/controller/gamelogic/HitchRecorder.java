@@ -0,0 +1,351 @@
+package h13.controller.gamelogic;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Future;
+
+import static h13.controller.GameConstants.HITCH_RECORDER_FRAMES;
+import static h13.controller.GameConstants.HITCH_THRESHOLD;
+import static h13.controller.GameConstants.REPORT_DIRECTORY;
+
+/**
+ * A {@link HitchRecorder} is a flight recorder for slow frames. It keeps the last
+ * {@link h13.controller.GameConstants#HITCH_RECORDER_FRAMES} frames in a ring buffer and dumps them to a file in its
+ * {@linkplain #getDirectory() directory} as soon as a frame takes longer than
+ * {@link h13.controller.GameConstants#HITCH_THRESHOLD} seconds.
+ * <br>
+ * Every frame record holds the frame time, the time spent in every {@linkplain PhaseMetrics.Phase phase} since the previous
+ * frame, the sprite counts, and the amount of garbage collections and allocated bytes since the previous frame. The records
+ * are stored in preallocated primitive arrays, so recording a frame does not allocate. Only a hitch copies the arrays, the
+ * file is formatted and written by the {@link ReportWriter}. A new dump is only started once the previous window was
+ * completely overwritten, so consecutive hitches do not produce overlapping dumps.
+ * <br>
+ * All methods must be called by the renderer.
+ */
+public class HitchRecorder {
+
+    /**
+     * All phases of the game loop.
+     */
+    private static final PhaseMetrics.Phase[] PHASES = PhaseMetrics.Phase.values();
+
+    // --Variables-- //
+
+    /**
+     * The directory the dumps are written to.
+     */
+    private final Path directory;
+
+    /**
+     * The {@link System#nanoTime()} at the end of every frame.
+     */
+    private final long[] timestamps;
+
+    /**
+     * The time (in nanoseconds) since the previous frame.
+     */
+    private final long[] frameTimes;
+
+    /**
+     * The time (in nanoseconds) spent in every phase since the previous frame, by phase ordinal and frame.
+     */
+    private final long[][] phaseTimes;
+
+    /**
+     * The amount of sprites of every frame.
+     */
+    private final int[] spriteCounts;
+
+    /**
+     * The amount of bullets of every frame.
+     */
+    private final int[] bulletCounts;
+
+    /**
+     * The amount of enemies of every frame.
+     */
+    private final int[] enemyCounts;
+
+    /**
+     * The amount of garbage collections since the previous frame.
+     */
+    private final long[] gcCounts;
+
+    /**
+     * The amount of bytes allocated by the renderer and the simulation thread since the previous frame, or {@code -1} if it
+     * is not supported.
+     */
+    private final long[] allocatedBytes;
+
+    /**
+     * The phase totals at the previous frame, by phase ordinal.
+     */
+    private final long[] lastPhaseTotals = new long[PHASES.length];
+
+    /**
+     * The garbage collectors of the JVM.
+     */
+    private final List<GarbageCollectorMXBean> garbageCollectors = ManagementFactory.getGarbageCollectorMXBeans();
+
+    /**
+     * The thread bean that measures the allocated bytes, or {@code null} if it is not supported.
+     */
+    private final @Nullable com.sun.management.ThreadMXBean threadBean;
+
+    /**
+     * The amount of garbage collections at the previous frame.
+     */
+    private long lastGcCount;
+
+    /**
+     * The amount of allocated bytes at the previous frame, or {@code -1} if it is unknown.
+     */
+    private long lastAllocatedBytes = -1;
+
+    /**
+     * The amount of recorded frames.
+     */
+    private long frames;
+
+    /**
+     * The frame of the last dump.
+     */
+    private long lastDumpFrame;
+
+    /**
+     * The amount of dumps that were written.
+     */
+    private int dumpCount;
+
+    /**
+     * The write of the last dump, or {@code null} if nothing was dumped yet.
+     */
+    private @Nullable Future<?> lastDump;
+
+    // --Constructors-- //
+
+    /**
+     * Creates a new, empty {@link HitchRecorder} with {@link h13.controller.GameConstants#HITCH_RECORDER_FRAMES} frames that
+     * dumps to the {@link h13.controller.GameConstants#REPORT_DIRECTORY}.
+     */
+    public HitchRecorder() {
+        this(Path.of(REPORT_DIRECTORY));
+    }
+
+    /**
+     * Creates a new, empty {@link HitchRecorder} with {@link h13.controller.GameConstants#HITCH_RECORDER_FRAMES} frames.
+     *
+     * @param directory The directory the dumps are written to.
+     */
+    public HitchRecorder(final Path directory) {
+        this.directory = directory;
+        final int capacity = Math.max(1, HITCH_RECORDER_FRAMES);
+        timestamps = new long[capacity];
+        frameTimes = new long[capacity];
+        phaseTimes = new long[PHASES.length][capacity];
+        spriteCounts = new int[capacity];
+        bulletCounts = new int[capacity];
+        enemyCounts = new int[capacity];
+        gcCounts = new long[capacity];
+        allocatedBytes = new long[capacity];
+        lastDumpFrame = -capacity;
+
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+            && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+            threadBean = bean;
+        } else {
+            threadBean = null;
+        }
+        lastGcCount = totalGcCount();
+    }
+
+    // --Getters and Setters-- //
+
+    /**
+     * Gets the value of {@link #directory} field.
+     *
+     * @return The value of {@link #directory} field.
+     * @see #directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Gets the value of {@link #dumpCount} field.
+     *
+     * @return The value of {@link #dumpCount} field.
+     * @see #dumpCount
+     */
+    public int getDumpCount() {
+        return dumpCount;
+    }
+
+    /**
+     * Gets the value of {@link #lastDump} field. It is completed once the last dump was written.
+     *
+     * @return The value of {@link #lastDump} field.
+     * @see #lastDump
+     */
+    public @Nullable Future<?> getLastDump() {
+        return lastDump;
+    }
+
+    // --Utility Methods-- //
+
+    /**
+     * Gets the amount of garbage collections of all collectors since the start of the JVM.
+     *
+     * @return The amount of garbage collections.
+     */
+    private long totalGcCount() {
+        long count = 0;
+        for (int i = 0; i < garbageCollectors.size(); i++) {
+            count += Math.max(0, garbageCollectors.get(i).getCollectionCount());
+        }
+        return count;
+    }
+
+    /**
+     * Gets the amount of bytes allocated by the current thread and the given simulation thread.
+     *
+     * @param simulationThreadId The id of the simulation thread, or {@code -1} if it does not run.
+     * @return The amount of allocated bytes, or {@code -1} if it is not supported.
+     */
+    private long totalAllocatedBytes(final long simulationThreadId) {
+        if (threadBean == null) {
+            return -1;
+        }
+        long bytes = threadBean.getCurrentThreadAllocatedBytes();
+        if (simulationThreadId >= 0) {
+            bytes += Math.max(0, threadBean.getThreadAllocatedBytes(simulationThreadId));
+        }
+        return bytes;
+    }
+
+    /**
+     * Copies the given ring buffer into a new array in recording order.
+     *
+     * @param ring  The ring buffer.
+     * @param first The index of the oldest frame.
+     * @param count The amount of frames.
+     * @return The frames in recording order.
+     */
+    private static long[] unroll(final long[] ring, final int first, final int count) {
+        final long[] copy = new long[count];
+        for (int i = 0; i < count; i++) {
+            copy[i] = ring[(first + i) % ring.length];
+        }
+        return copy;
+    }
+
+    /**
+     * Copies the given ring buffer into a new array in recording order.
+     *
+     * @param ring  The ring buffer.
+     * @param first The index of the oldest frame.
+     * @param count The amount of frames.
+     * @return The frames in recording order.
+     */
+    private static int[] unroll(final int[] ring, final int first, final int count) {
+        final int[] copy = new int[count];
+        for (int i = 0; i < count; i++) {
+            copy[i] = ring[(first + i) % ring.length];
+        }
+        return copy;
+    }
+
+    /**
+     * Copies the recorded window and writes it to a new file with the {@link ReportWriter}.
+     */
+    private void dump() {
+        final int count = (int) Math.min(frames, timestamps.length);
+        final int first = (int) ((frames - count) % timestamps.length);
+        final long firstFrame = frames - count;
+        final long[] timestamps = unroll(this.timestamps, first, count);
+        final long[] frameTimes = unroll(this.frameTimes, first, count);
+        final long[][] phaseTimes = new long[PHASES.length][];
+        for (int i = 0; i < PHASES.length; i++) {
+            phaseTimes[i] = unroll(this.phaseTimes[i], first, count);
+        }
+        final int[] spriteCounts = unroll(this.spriteCounts, first, count);
+        final int[] bulletCounts = unroll(this.bulletCounts, first, count);
+        final int[] enemyCounts = unroll(this.enemyCounts, first, count);
+        final long[] gcCounts = unroll(this.gcCounts, first, count);
+        final long[] allocatedBytes = unroll(this.allocatedBytes, first, count);
+        final Path file = directory.resolve(
+            "hitch-" + new SimpleDateFormat("yyyyMMdd-HHmmss-SSS").format(new Date()) + ".csv");
+
+        lastDump = ReportWriter.write(file, () -> {
+            final StringBuilder builder = new StringBuilder("frame,time_ms,frame_ms");
+            for (final PhaseMetrics.Phase phase : PHASES) {
+                builder.append(',').append(phase.key()).append("_us");
+            }
+            builder.append(",sprites,bullets,enemies,gc,allocated_kb").append(System.lineSeparator());
+            for (int frame = 0; frame < count; frame++) {
+                builder.append(String.format(Locale.ROOT, "%d,%.3f,%.3f", firstFrame + frame,
+                    (timestamps[frame] - timestamps[0]) / 1e6, frameTimes[frame] / 1e6));
+                for (int i = 0; i < PHASES.length; i++) {
+                    builder.append(String.format(Locale.ROOT, ",%.1f", phaseTimes[i][frame] / 1e3));
+                }
+                builder.append(String.format(Locale.ROOT, ",%d,%d,%d,%d,%.1f%n", spriteCounts[frame],
+                    bulletCounts[frame], enemyCounts[frame], gcCounts[frame],
+                    allocatedBytes[frame] < 0 ? -1 : allocatedBytes[frame] / 1024.0));
+            }
+            return builder;
+        });
+        lastDumpFrame = frames;
+        dumpCount++;
+    }
+
+    // --Methods-- //
+
+    /**
+     * Records a frame and dumps the recorded window if the frame was a hitch.
+     *
+     * @param frameTime          The time (in nanoseconds) since the previous frame.
+     * @param simulationMetrics  The phase metrics of the simulation.
+     * @param renderMetrics      The phase metrics of the renderer.
+     * @param spriteCount        The amount of sprites.
+     * @param bulletCount        The amount of bullets.
+     * @param enemyCount         The amount of enemies.
+     * @param simulationThreadId The id of the simulation thread, or {@code -1} if the simulation is run by the renderer.
+     * @param detectHitch        Whether the frame may be treated as a hitch, {@code false} for the first frame after a pause.
+     */
+    public void record(final long frameTime, final PhaseMetrics simulationMetrics, final PhaseMetrics renderMetrics,
+                       final int spriteCount, final int bulletCount, final int enemyCount, final long simulationThreadId,
+                       final boolean detectHitch) {
+        final int index = (int) (frames % timestamps.length);
+        timestamps[index] = System.nanoTime();
+        frameTimes[index] = frameTime;
+        for (int i = 0; i < PHASES.length; i++) {
+            final long total = PHASES[i] == PhaseMetrics.Phase.RENDER
+                ? renderMetrics.getTotal(PHASES[i])
+                : simulationMetrics.getTotal(PHASES[i]);
+            phaseTimes[i][index] = total - lastPhaseTotals[i];
+            lastPhaseTotals[i] = total;
+        }
+        spriteCounts[index] = spriteCount;
+        bulletCounts[index] = bulletCount;
+        enemyCounts[index] = enemyCount;
+
+        final long gcCount = totalGcCount();
+        gcCounts[index] = gcCount - lastGcCount;
+        lastGcCount = gcCount;
+        final long allocated = totalAllocatedBytes(simulationThreadId);
+        allocatedBytes[index] = allocated < 0 || lastAllocatedBytes < 0 ? -1 : Math.max(0, allocated - lastAllocatedBytes);
+        lastAllocatedBytes = allocated;
+        frames++;
+
+        if (detectHitch && frameTime > HITCH_THRESHOLD * 1e9 && frames - lastDumpFrame >= timestamps.length) {
+            dump();
+        }
+    }
+}
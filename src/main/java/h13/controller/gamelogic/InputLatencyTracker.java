@@ -0,0 +1,168 @@
+package h13.controller.gamelogic;
+
+import h13.shared.Histogram;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static h13.controller.GameConstants.INPUT_QUEUE_CAPACITY;
+import static h13.controller.GameConstants.LATENCY_HISTOGRAM_BUCKET_COUNT;
+import static h13.controller.GameConstants.LATENCY_HISTOGRAM_BUCKET_WIDTH;
+
+/**
+ * An {@link InputLatencyTracker} measures how long a key event takes from its arrival in the {@link GameInputHandler} until
+ * it affects the game (the tick that applies it) and until it is visible (the first frame that renders that tick).
+ * <br>
+ * The simulation reports every {@linkplain #applied(long, long, long) applied} event into a single-producer/single-consumer
+ * ring buffer. The renderer reports every {@linkplain #rendered(long, long) rendered} tick, which resolves all pending events
+ * up to that tick and records their latencies in two {@link Histogram histograms}. The histograms are only accessed by the
+ * renderer, so they are read without any locks. The frame end is the last point the game can observe, the time until the
+ * frame is actually presented is not included.
+ */
+public class InputLatencyTracker {
+
+    // --Variables-- //
+
+    /**
+     * The arrival times of the pending events.
+     */
+    private final long[] arrivals;
+
+    /**
+     * The times the pending events were applied at.
+     */
+    private final long[] appliedAt;
+
+    /**
+     * The ticks the pending events were applied in.
+     */
+    private final long[] ticks;
+
+    /**
+     * The bit mask that maps a sequence number to its index.
+     */
+    private final int mask;
+
+    /**
+     * The sequence number of the next pending event to resolve. Only written by the renderer.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * The sequence number of the next pending event to write. Only written by the simulation.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The latencies (in nanoseconds) from the arrival of an event until the tick that applied it.
+     */
+    private final Histogram inputToTick = new Histogram(LATENCY_HISTOGRAM_BUCKET_WIDTH, LATENCY_HISTOGRAM_BUCKET_COUNT);
+
+    /**
+     * The latencies (in nanoseconds) from the arrival of an event until the end of the first frame that rendered it.
+     */
+    private final Histogram inputToFrame = new Histogram(LATENCY_HISTOGRAM_BUCKET_WIDTH, LATENCY_HISTOGRAM_BUCKET_COUNT);
+
+    // --Constructors-- //
+
+    /**
+     * Creates a new {@link InputLatencyTracker} that can hold {@link h13.controller.GameConstants#INPUT_QUEUE_CAPACITY}
+     * pending events.
+     */
+    public InputLatencyTracker() {
+        final int size = Integer.highestOneBit(Math.max(1, INPUT_QUEUE_CAPACITY - 1)) << 1;
+        arrivals = new long[size];
+        appliedAt = new long[size];
+        ticks = new long[size];
+        mask = size - 1;
+    }
+
+    // --Getters and Setters-- //
+
+    /**
+     * Gets the value of {@link #inputToTick} field. It must only be read by the renderer.
+     *
+     * @return The value of {@link #inputToTick} field.
+     * @see #inputToTick
+     */
+    public Histogram getInputToTick() {
+        return inputToTick;
+    }
+
+    /**
+     * Gets the value of {@link #inputToFrame} field. It must only be read by the renderer.
+     *
+     * @return The value of {@link #inputToFrame} field.
+     * @see #inputToFrame
+     */
+    public Histogram getInputToFrame() {
+        return inputToFrame;
+    }
+
+    // --Utility Methods-- //
+
+    /**
+     * Formats the p50, p95 and p99 of the given histogram in milliseconds.
+     *
+     * @param histogram The histogram.
+     * @return The formatted percentiles.
+     */
+    private static String percentiles(final Histogram histogram) {
+        return String.format("p50 %.1f ms, p95 %.1f ms, p99 %.1f ms",
+            histogram.getPercentile(50) / 1e6, histogram.getPercentile(95) / 1e6, histogram.getPercentile(99) / 1e6);
+    }
+
+    // --Methods-- //
+
+    /**
+     * Reports that an event was applied by the simulation. Must only be called by the thread that runs the simulation.
+     * The event is dropped if too many events are pending.
+     *
+     * @param arrival The {@link System#nanoTime()} at which the event arrived.
+     * @param now     The {@link System#nanoTime()} at which the event was applied.
+     * @param tick    The tick the event was applied in.
+     */
+    public void applied(final long arrival, final long now, final long tick) {
+        final long sequence = tail.get();
+        if (sequence - head.getAcquire() > mask) {
+            return;
+        }
+        final int index = (int) (sequence & mask);
+        arrivals[index] = arrival;
+        appliedAt[index] = now;
+        ticks[index] = tick;
+        tail.setRelease(sequence + 1);
+    }
+
+    /**
+     * Reports that a frame showing the given tick was rendered and records the latencies of all events applied up to that
+     * tick. Must only be called by the renderer.
+     *
+     * @param tick The tick that was rendered.
+     * @param now  The {@link System#nanoTime()} at which the frame was finished.
+     */
+    public void rendered(final long tick, final long now) {
+        long sequence = head.get();
+        final long end = tail.getAcquire();
+        while (sequence < end) {
+            final int index = (int) (sequence & mask);
+            if (ticks[index] > tick) {
+                break;
+            }
+            inputToTick.record(appliedAt[index] - arrivals[index]);
+            inputToFrame.record(now - arrivals[index]);
+            sequence++;
+        }
+        head.setRelease(sequence);
+    }
+
+    /**
+     * Creates a report of the recorded latencies. Must only be called by the renderer.
+     *
+     * @return The report, one line per measured stage.
+     */
+    public String createReport() {
+        return "events: " + inputToFrame.getCount() + System.lineSeparator()
+            + "input to tick: " + percentiles(inputToTick) + System.lineSeparator()
+            + "input to frame: " + percentiles(inputToFrame) + System.lineSeparator();
+    }
+}
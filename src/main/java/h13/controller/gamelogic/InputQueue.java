@@ -0,0 +1,220 @@
+package h13.controller.gamelogic;
+
+import javafx.scene.input.KeyCode;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An {@link InputQueue} is a lock-free single-producer/single-consumer ring buffer of key events.
+ * <br>
+ * The JavaFX Application Thread {@linkplain #offer(KeyCode, boolean, long) offers} the events as they arrive and the
+ * simulation {@linkplain #drain(Consumer) drains} them at the start of each tick. Every event is stored as a compact
+ * {@code int} (the ordinal of its {@link KeyCode} and whether it was a press) together with its arrival time, so offering
+ * and draining do not allocate. The producer and the consumer only synchronize through the release/acquire accesses of the
+ * {@link #tail} and {@link #head} counters.
+ * <br>
+ * If the queue is full, no event is lost. Instead, the latest state of every key is coalesced into an overflow table until
+ * the next drain, so a release can never be dropped and leave a key stuck. While the overflow table is in use, all events go
+ * there, so the drained events stay in arrival order. Only this rare path takes a lock.
+ */
+public class InputQueue {
+
+    /**
+     * Consumes the events of an {@link InputQueue}.
+     */
+    @FunctionalInterface
+    public interface Consumer {
+
+        /**
+         * Consumes a single event.
+         *
+         * @param code      The key of the event.
+         * @param pressed   {@code true} if the key was pressed, {@code false} if it was released.
+         * @param timestamp The {@link System#nanoTime()} at which the event arrived.
+         */
+        void accept(final KeyCode code, final boolean pressed, final long timestamp);
+    }
+
+    /**
+     * All key codes by their ordinal.
+     */
+    private static final KeyCode[] KEY_CODES = KeyCode.values();
+
+    // --Variables-- //
+
+    /**
+     * The encoded events, {@code ordinal << 1 | pressed}.
+     */
+    private final int[] events;
+
+    /**
+     * The arrival times of the events.
+     */
+    private final long[] timestamps;
+
+    /**
+     * The bit mask that maps a sequence number to its index.
+     */
+    private final int mask;
+
+    /**
+     * The sequence number of the next event to read. Only written by the consumer.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * The sequence number of the next event to write. Only written by the producer.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Whether events were coalesced into the overflow table since the last drain. Only set by the producer and only cleared
+     * by the consumer.
+     */
+    private volatile boolean overflowed;
+
+    /**
+     * Whether the overflow table holds a state for a key, by ordinal. Guarded by {@code this}.
+     */
+    private final boolean[] overflowChanged = new boolean[KEY_CODES.length];
+
+    /**
+     * The latest state of every key in the overflow table, by ordinal. Guarded by {@code this}.
+     */
+    private final boolean[] overflowPressed = new boolean[KEY_CODES.length];
+
+    /**
+     * The arrival time of the latest event of every key in the overflow table, by ordinal. Guarded by {@code this}.
+     */
+    private final long[] overflowTimestamps = new long[KEY_CODES.length];
+
+    /**
+     * The amount of events that were coalesced because the queue was full. Only written by the producer.
+     */
+    private volatile long coalesced;
+
+    // --Constructors-- //
+
+    /**
+     * Creates a new, empty {@link InputQueue}.
+     *
+     * @param capacity The minimum capacity. It is rounded up to the next power of two.
+     */
+    public InputQueue(final int capacity) {
+        final int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        this.events = new int[size];
+        this.timestamps = new long[size];
+        this.mask = size - 1;
+    }
+
+    // --Getters and Setters-- //
+
+    /**
+     * Gets the capacity of the queue.
+     *
+     * @return The maximum amount of queued events.
+     */
+    public int getCapacity() {
+        return events.length;
+    }
+
+    /**
+     * Gets the amount of queued events. The result is only a snapshot if the queue is used concurrently.
+     *
+     * @return The amount of queued events.
+     */
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    /**
+     * Gets the value of {@link #coalesced} field.
+     *
+     * @return The value of {@link #coalesced} field.
+     * @see #coalesced
+     */
+    public long getCoalesced() {
+        return coalesced;
+    }
+
+    // --Utility Methods-- //
+
+    /**
+     * Records the given event as the latest state of its key in the overflow table.
+     *
+     * @param code      The key of the event.
+     * @param pressed   {@code true} if the key was pressed, {@code false} if it was released.
+     * @param timestamp The {@link System#nanoTime()} at which the event arrived.
+     */
+    private synchronized void coalesce(final KeyCode code, final boolean pressed, final long timestamp) {
+        overflowed = true;
+        overflowChanged[code.ordinal()] = true;
+        overflowPressed[code.ordinal()] = pressed;
+        overflowTimestamps[code.ordinal()] = timestamp;
+        coalesced++;
+    }
+
+    /**
+     * Passes the latest state of every key in the overflow table to the given consumer and clears the table.
+     *
+     * @param consumer The consumer of the key states.
+     * @return The amount of passed key states.
+     */
+    private synchronized int drainOverflow(final Consumer consumer) {
+        int count = 0;
+        for (int i = 0; i < overflowChanged.length; i++) {
+            if (overflowChanged[i]) {
+                overflowChanged[i] = false;
+                consumer.accept(KEY_CODES[i], overflowPressed[i], overflowTimestamps[i]);
+                count++;
+            }
+        }
+        overflowed = false;
+        return count;
+    }
+
+    // --Methods-- //
+
+    /**
+     * Adds an event to the queue. Must only be called by the producer thread.
+     *
+     * @param code      The key of the event.
+     * @param pressed   {@code true} if the key was pressed, {@code false} if it was released.
+     * @param timestamp The {@link System#nanoTime()} at which the event arrived.
+     * @return {@code true} if the event was added, {@code false} if the queue is full and the event was coalesced into the
+     * latest state of its key.
+     */
+    public boolean offer(final KeyCode code, final boolean pressed, final long timestamp) {
+        final long sequence = tail.get();
+        if (overflowed || sequence - head.getAcquire() > mask) {
+            coalesce(code, pressed, timestamp);
+            return false;
+        }
+        final int index = (int) (sequence & mask);
+        events[index] = code.ordinal() << 1 | (pressed ? 1 : 0);
+        timestamps[index] = timestamp;
+        tail.setRelease(sequence + 1);
+        return true;
+    }
+
+    /**
+     * Removes all queued events and passes them to the given consumer in arrival order, followed by the latest state of every
+     * key that was coalesced because the queue was full. Must only be called by the consumer thread.
+     *
+     * @param consumer The consumer of the events.
+     * @return The amount of drained events.
+     */
+    public int drain(final Consumer consumer) {
+        // read before the tail, the producer does not add to the ring buffer while the overflow table is in use
+        final boolean overflow = overflowed;
+        final long start = head.get();
+        final long end = tail.getAcquire();
+        for (long sequence = start; sequence < end; sequence++) {
+            final int index = (int) (sequence & mask);
+            final int event = events[index];
+            consumer.accept(KEY_CODES[event >>> 1], (event & 1) != 0, timestamps[index]);
+        }
+        head.setRelease(end);
+        return (int) (end - start) + (overflow ? drainOverflow(consumer) : 0);
+    }
+}
@@ -0,0 +1,349 @@
+package h13.controller.gamelogic;
+
+import h13.model.gameplay.Renderable;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Locale;
+
+import static h13.controller.GameConstants.METRICS_EXPORT_FORMAT;
+import static h13.controller.GameConstants.METRICS_EXPORT_INTERVAL;
+import static h13.controller.GameConstants.METRICS_WINDOW;
+import static h13.controller.GameConstants.REPORT_DIRECTORY;
+
+/**
+ * A {@link PerformanceMonitor} collects the frame rate, the tick rate, the sprite counts and the {@linkplain PhaseMetrics
+ * phase durations} of a running game in windows of {@link h13.controller.GameConstants#METRICS_WINDOW} seconds.
+ * <br>
+ * The simulation phases are taken from the {@link PhaseMetrics} of the {@link GameSimulation}, the render phase is recorded
+ * by the monitor itself. All methods must be called by the renderer. If
+ * {@link h13.controller.GameConstants#METRICS_EXPORT_INTERVAL} is positive, the finished windows are appended to a file in
+ * the {@link h13.controller.GameConstants#REPORT_DIRECTORY} by the {@link ReportWriter}, so long soak runs can be analyzed
+ * afterwards. Every frame is also passed to a {@link HitchRecorder}, which dumps the preceding frames when a frame is slow.
+ */
+public class PerformanceMonitor {
+
+    /**
+     * The format of the exported metrics.
+     */
+    public enum ExportFormat {
+        /**
+         * Comma separated values with a header line.
+         */
+        CSV("csv"),
+        /**
+         * One JSON object per line.
+         */
+        JSON("jsonl");
+
+        /**
+         * The file extension of the format.
+         */
+        private final String extension;
+
+        /**
+         * Creates a new {@link ExportFormat}.
+         *
+         * @param extension The file extension of the format.
+         */
+        ExportFormat(final String extension) {
+            this.extension = extension;
+        }
+    }
+
+    // --Variables-- //
+
+    /**
+     * The simulation whose phases are monitored.
+     */
+    private final GameSimulation simulation;
+
+    /**
+     * The thread the {@link #simulation} runs on, or {@code null} if it is run by the renderer.
+     */
+    private final @Nullable SimulationThread simulationThread;
+
+    /**
+     * The {@link HitchRecorder} that keeps the last frames.
+     */
+    private final HitchRecorder hitchRecorder = new HitchRecorder();
+
+    /**
+     * Whether the next frame follows a pause and must not be treated as a hitch.
+     */
+    private boolean resumed;
+
+    /**
+     * The durations of the render phase.
+     */
+    private final PhaseMetrics renderMetrics = new PhaseMetrics();
+
+    /**
+     * The {@link System#nanoTime()} the monitor was created at.
+     */
+    private final long startTime = System.nanoTime();
+
+    /**
+     * The time (in seconds) elapsed in the current window.
+     */
+    private double windowElapsed;
+
+    /**
+     * The amount of frames rendered in the current window.
+     */
+    private int windowFrames;
+
+    /**
+     * The tick that was rendered at the start of the current window, or {@code -1} before the first frame.
+     */
+    private long windowStartTick = -1;
+
+    /**
+     * The frames per second of the last window.
+     */
+    private double framesPerSecond;
+
+    /**
+     * The ticks per second of the last window.
+     */
+    private double ticksPerSecond;
+
+    /**
+     * The amount of sprites at the end of the last window.
+     */
+    private int spriteCount;
+
+    /**
+     * The amount of bullets at the end of the last window.
+     */
+    private int bulletCount;
+
+    /**
+     * The amount of enemies at the end of the last window.
+     */
+    private int enemyCount;
+
+    /**
+     * The time (in seconds) since the metrics were last exported.
+     */
+    private double sinceExport;
+
+    /**
+     * The file the metrics are exported to, or {@code null} if nothing was exported yet.
+     */
+    private @Nullable Path exportFile;
+
+    // --Constructors-- //
+
+    /**
+     * Creates a new {@link PerformanceMonitor}.
+     *
+     * @param simulation       The simulation whose phases are monitored.
+     * @param simulationThread The thread the simulation runs on, or {@code null} if it is run by the renderer.
+     */
+    public PerformanceMonitor(final GameSimulation simulation, final @Nullable SimulationThread simulationThread) {
+        this.simulation = simulation;
+        this.simulationThread = simulationThread;
+    }
+
+    // --Getters and Setters-- //
+
+    /**
+     * Gets the value of {@link #framesPerSecond} field.
+     *
+     * @return The value of {@link #framesPerSecond} field.
+     * @see #framesPerSecond
+     */
+    public double getFramesPerSecond() {
+        return framesPerSecond;
+    }
+
+    /**
+     * Gets the value of {@link #ticksPerSecond} field.
+     *
+     * @return The value of {@link #ticksPerSecond} field.
+     * @see #ticksPerSecond
+     */
+    public double getTicksPerSecond() {
+        return ticksPerSecond;
+    }
+
+    /**
+     * Gets the value of {@link #spriteCount} field.
+     *
+     * @return The value of {@link #spriteCount} field.
+     * @see #spriteCount
+     */
+    public int getSpriteCount() {
+        return spriteCount;
+    }
+
+    /**
+     * Gets the value of {@link #bulletCount} field.
+     *
+     * @return The value of {@link #bulletCount} field.
+     * @see #bulletCount
+     */
+    public int getBulletCount() {
+        return bulletCount;
+    }
+
+    /**
+     * Gets the value of {@link #enemyCount} field.
+     *
+     * @return The value of {@link #enemyCount} field.
+     * @see #enemyCount
+     */
+    public int getEnemyCount() {
+        return enemyCount;
+    }
+
+    /**
+     * Gets the value of {@link #hitchRecorder} field.
+     *
+     * @return The value of {@link #hitchRecorder} field.
+     * @see #hitchRecorder
+     */
+    public HitchRecorder getHitchRecorder() {
+        return hitchRecorder;
+    }
+
+    /**
+     * Gets the summary of the last finished window that contains the given phase.
+     *
+     * @param phase The phase.
+     * @return The summary of the render metrics for {@link PhaseMetrics.Phase#RENDER}, the summary of the simulation
+     * metrics otherwise.
+     */
+    public PhaseMetrics.Summary getSummary(final PhaseMetrics.Phase phase) {
+        return phase == PhaseMetrics.Phase.RENDER ? renderMetrics.getSummary() : simulation.getPhaseMetrics().getSummary();
+    }
+
+    // --Utility Methods-- //
+
+    /**
+     * Creates the header line of the CSV export.
+     *
+     * @return The header line.
+     */
+    private static String csvHeader() {
+        final StringBuilder builder = new StringBuilder("time,fps,tps,sprites,bullets,enemies");
+        for (final PhaseMetrics.Phase phase : PhaseMetrics.Phase.values()) {
+            builder.append(',').append(phase.key()).append("_p50_us,").append(phase.key()).append("_p99_us");
+        }
+        return builder.append(System.lineSeparator()).toString();
+    }
+
+    /**
+     * Creates the exported line of the last window.
+     *
+     * @param format The format of the line.
+     * @return The line.
+     */
+    private String exportLine(final ExportFormat format) {
+        final double time = (System.nanoTime() - startTime) / 1e9;
+        final StringBuilder builder = new StringBuilder();
+        if (format == ExportFormat.CSV) {
+            builder.append(String.format(Locale.ROOT, "%.3f,%.2f,%.2f,%d,%d,%d",
+                time, framesPerSecond, ticksPerSecond, spriteCount, bulletCount, enemyCount));
+            for (final PhaseMetrics.Phase phase : PhaseMetrics.Phase.values()) {
+                builder.append(String.format(Locale.ROOT, ",%.1f,%.1f",
+                    getSummary(phase).p50(phase) / 1e3, getSummary(phase).p99(phase) / 1e3));
+            }
+        } else {
+            builder.append(String.format(Locale.ROOT,
+                "{\"time\":%.3f,\"fps\":%.2f,\"tps\":%.2f,\"sprites\":%d,\"bullets\":%d,\"enemies\":%d,\"phases\":{",
+                time, framesPerSecond, ticksPerSecond, spriteCount, bulletCount, enemyCount));
+            for (final PhaseMetrics.Phase phase : PhaseMetrics.Phase.values()) {
+                builder.append(String.format(Locale.ROOT, "%s\"%s\":{\"p50_us\":%.1f,\"p99_us\":%.1f}",
+                    phase.ordinal() == 0 ? "" : ",", phase.key(),
+                    getSummary(phase).p50(phase) / 1e3, getSummary(phase).p99(phase) / 1e3));
+            }
+            builder.append("}}");
+        }
+        return builder.append(System.lineSeparator()).toString();
+    }
+
+    /**
+     * Appends the last window to the export file with the {@link ReportWriter}, creating the file first if necessary.
+     */
+    private void export() {
+        final ExportFormat format = METRICS_EXPORT_FORMAT;
+        final String line = exportLine(format);
+        final boolean create = exportFile == null;
+        if (create) {
+            final String timestamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+            exportFile = Path.of(REPORT_DIRECTORY, "metrics-" + timestamp + "." + format.extension);
+        }
+        if (create) {
+            ReportWriter.write(exportFile, () -> format == ExportFormat.CSV ? csvHeader() : "");
+        }
+        ReportWriter.write(exportFile, () -> line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    // --Methods-- //
+
+    /**
+     * Reports that the game loop was resumed after a pause, so the time of the next frame includes the pause.
+     */
+    public void resumed() {
+        resumed = true;
+    }
+
+    /**
+     * Reports a rendered frame. Finishes the current window if it lasted {@link h13.controller.GameConstants#METRICS_WINDOW}
+     * seconds.
+     *
+     * @param elapsedTime    The time elapsed since the last frame in seconds.
+     * @param renderDuration The duration of the render phase in nanoseconds.
+     * @param tick           The tick that was rendered.
+     * @param sprites        The sprites that were rendered.
+     */
+    public void frameRendered(final double elapsedTime, final long renderDuration, final long tick,
+                              final Collection<? extends Renderable> sprites) {
+        renderMetrics.record(PhaseMetrics.Phase.RENDER, renderDuration);
+        int bullets = 0;
+        int enemies = 0;
+        for (final Renderable sprite : sprites) {
+            if (sprite.getRenderLayer() == Renderable.LAYER_BULLETS) {
+                bullets++;
+            } else if (sprite.getRenderLayer() == Renderable.LAYER_ENEMIES) {
+                enemies++;
+            }
+        }
+        hitchRecorder.record((long) (elapsedTime * 1e9), simulation.getPhaseMetrics(), renderMetrics, sprites.size(),
+            bullets, enemies, simulationThread != null ? simulationThread.getThreadId() : -1, !resumed);
+        resumed = false;
+
+        if (windowStartTick < 0) {
+            windowStartTick = tick;
+        }
+        windowElapsed += elapsedTime;
+        windowFrames++;
+        if (windowElapsed < METRICS_WINDOW) {
+            return;
+        }
+
+        framesPerSecond = windowFrames / windowElapsed;
+        ticksPerSecond = (tick - windowStartTick) / windowElapsed;
+        spriteCount = sprites.size();
+        bulletCount = bullets;
+        enemyCount = enemies;
+        renderMetrics.publish();
+
+        if (METRICS_EXPORT_INTERVAL > 0) {
+            sinceExport += windowElapsed;
+            if (sinceExport >= METRICS_EXPORT_INTERVAL) {
+                sinceExport = 0;
+                export();
+            }
+        }
+        windowElapsed = 0;
+        windowFrames = 0;
+        windowStartTick = tick;
+    }
+}
@@ -0,0 +1,188 @@
+package h13.controller.gamelogic;
+
+import h13.shared.Histogram;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static h13.controller.GameConstants.PHASE_HISTOGRAM_BUCKET_COUNT;
+import static h13.controller.GameConstants.PHASE_HISTOGRAM_BUCKET_WIDTH;
+
+/**
+ * {@link PhaseMetrics} collect the durations of the phases of the game loop in one {@link Histogram} per {@link Phase}.
+ * <br>
+ * The histograms are recorded by a single thread, which {@linkplain #publish() publishes} an immutable {@link Summary} of the
+ * current window through a volatile field and starts the next window. Other threads only read the published summaries and
+ * the {@linkplain #getTotal(Phase) total durations}, so neither side needs a lock.
+ */
+public class PhaseMetrics {
+
+    /**
+     * A phase of the game loop.
+     */
+    public enum Phase {
+        /**
+         * Applying the queued input.
+         */
+        INPUT,
+        /**
+         * Adding the sprites of {@link h13.model.gameplay.GameState#getToAdd()}.
+         */
+        SPAWN,
+        /**
+         * Updating the sprites, the enemy movement and the timed events.
+         */
+        UPDATE,
+        /**
+         * Detecting the collisions.
+         */
+        COLLISIONS,
+        /**
+         * Awarding the points of the dead sprites and removing them.
+         */
+        SWEEP,
+        /**
+         * Refilling the enemies if the level is finished.
+         */
+        REFILL,
+        /**
+         * Rendering the {@link h13.view.gui.GameBoard}.
+         */
+        RENDER;
+
+        /**
+         * Gets the lowercase name of the phase, as used in the exported metrics.
+         *
+         * @return The lowercase name.
+         */
+        public String key() {
+            return name().toLowerCase();
+        }
+    }
+
+    /**
+     * The percentiles of all phases in a window, in nanoseconds.
+     *
+     * @param p50     The median duration of every phase, by ordinal. Must not be modified.
+     * @param p99     The 99th percentile duration of every phase, by ordinal. Must not be modified.
+     * @param samples The amount of recorded durations of every phase, by ordinal. Must not be modified.
+     */
+    public record Summary(long[] p50, long[] p99, long[] samples) {
+
+        /**
+         * A summary without any samples.
+         */
+        public static final Summary EMPTY = new Summary(
+            new long[Phase.values().length], new long[Phase.values().length], new long[Phase.values().length]);
+
+        /**
+         * Gets the median duration of the given phase.
+         *
+         * @param phase The phase.
+         * @return The median duration in nanoseconds.
+         */
+        public long p50(final Phase phase) {
+            return p50[phase.ordinal()];
+        }
+
+        /**
+         * Gets the 99th percentile duration of the given phase.
+         *
+         * @param phase The phase.
+         * @return The 99th percentile duration in nanoseconds.
+         */
+        public long p99(final Phase phase) {
+            return p99[phase.ordinal()];
+        }
+
+        /**
+         * Gets the amount of recorded durations of the given phase.
+         *
+         * @param phase The phase.
+         * @return The amount of samples.
+         */
+        public long samples(final Phase phase) {
+            return samples[phase.ordinal()];
+        }
+    }
+
+    // --Variables-- //
+
+    /**
+     * The durations of the current window, by phase ordinal.
+     */
+    private final Histogram[] histograms = new Histogram[Phase.values().length];
+
+    /**
+     * The summary of the last finished window.
+     */
+    private volatile Summary summary = Summary.EMPTY;
+
+    /**
+     * The sum of all recorded durations, by phase ordinal. Only written by the recording thread.
+     */
+    private final AtomicLongArray totals = new AtomicLongArray(Phase.values().length);
+
+    // --Constructors-- //
+
+    /**
+     * Creates new, empty {@link PhaseMetrics}.
+     */
+    public PhaseMetrics() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new Histogram(PHASE_HISTOGRAM_BUCKET_WIDTH, PHASE_HISTOGRAM_BUCKET_COUNT);
+        }
+    }
+
+    // --Getters and Setters-- //
+
+    /**
+     * Gets the value of {@link #summary} field. It can be called by any thread.
+     *
+     * @return The value of {@link #summary} field.
+     * @see #summary
+     */
+    public Summary getSummary() {
+        return summary;
+    }
+
+    /**
+     * Gets the sum of all durations of the given phase recorded so far. It can be called by any thread, the difference
+     * between two calls is the time spent in the phase in between.
+     *
+     * @param phase The phase.
+     * @return The total duration in nanoseconds.
+     */
+    public long getTotal(final Phase phase) {
+        return totals.getAcquire(phase.ordinal());
+    }
+
+    // --Methods-- //
+
+    /**
+     * Records the duration of the given phase. Must only be called by the recording thread.
+     *
+     * @param phase    The phase.
+     * @param duration The duration in nanoseconds.
+     */
+    public void record(final Phase phase, final long duration) {
+        histograms[phase.ordinal()].record(duration);
+        totals.setRelease(phase.ordinal(), totals.getPlain(phase.ordinal()) + duration);
+    }
+
+    /**
+     * Publishes the {@link Summary} of the current window and starts the next one. Must only be called by the recording
+     * thread.
+     */
+    public void publish() {
+        final long[] p50 = new long[histograms.length];
+        final long[] p99 = new long[histograms.length];
+        final long[] samples = new long[histograms.length];
+        for (int i = 0; i < histograms.length; i++) {
+            p50[i] = histograms[i].getPercentile(50);
+            p99[i] = histograms[i].getPercentile(99);
+            samples[i] = histograms[i].getCount();
+            histograms[i].reset();
+        }
+        summary = new Summary(p50, p99, samples);
+    }
+}
@@ -1,10 +1,15 @@
 package h13.controller.gamelogic;
 
-import h13.controller.scene.game.GameController;
+import h13.model.gameplay.sprites.Enemy;
 import h13.model.gameplay.sprites.Player;
+import h13.model.gameplay.sprites.Sprite;
+import javafx.event.EventHandler;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
 
 import static h13.controller.GameConstants.*;
@@ -13,6 +18,12 @@ import static h13.controller.GameConstants.*;
  * A {@link PlayerController} is responsible for instantiating and updating the {@linkplain Player players}.
  */
 public class PlayerController {
+
+    /**
+     * The keys that move the {@link #player} or make it shoot.
+     */
+    private static final Set<KeyCode> PLAYER_KEYS = EnumSet.of(KeyCode.A, KeyCode.D, KeyCode.LEFT, KeyCode.RIGHT, KeyCode.SPACE);
+
     // --Variables-- //
 
     /**
@@ -21,18 +32,18 @@ public class PlayerController {
     private final Player player;
 
     /**
-     * The {@link GameController}.
+     * The {@link GameContext} this controller belongs to.
      */
-    private final GameController gameController;
+    private final GameContext gameController;
 
     // --Constructors-- //
 
     /**
      * Creates a new {@link PlayerController}.
      *
-     * @param gameController The game controller.
+     * @param gameController The {@link GameContext} this controller belongs to.
      */
-    public PlayerController(final GameController gameController) {
+    public PlayerController(final GameContext gameController) {
         this.gameController = gameController;
         player = new Player(
             0,
@@ -61,23 +72,50 @@ public class PlayerController {
      * @return The value of {@link #gameController} field.
      * @see #gameController
      */
-    public GameController getGameController() {
+    public GameContext getGameController() {
         return gameController;
     }
 
     // --Methods-- //
 
     /**
-     * Handles the given {@link KeyEvent} related to a player action.
+     * Adds the points of all killed {@linkplain Enemy enemies} among the given sprites to the {@link #player}.
+     *
+     * @param damaged The damaged sprites.
+     */
+    public void updatePoints(final List<Sprite> damaged) {
+        for (Sprite sprite : damaged) {
+            if (sprite instanceof Enemy && sprite.isDead()) {
+                player.addPoints(((Enemy) sprite).getPointsWorth());
+            }
+        }
+    }
+
+    /**
+     * Applies the key events that were queued since the last tick to the {@link #player}. Called by the
+     * {@link GameSimulation} at the start of every tick.
+     *
+     * @param tick The current tick.
+     */
+    public void applyInput(final long tick) {
+        if (getGameController().getGameInputHandler().pollInputs(tick)) {
+            playerKeyAction(null);
+        }
+    }
+
+    /**
+     * Handles the given {@link KeyEvent} related to a player action by applying the
+     * {@linkplain GameInputHandler#getKeysPressed() pressed keys} of the current tick.
      *
      * <ul>
      *     <li>The player can move with the arrow keys or the WASD keys.</li>
      *     <li>The player can shoot with the space bar.</li>
      * </ul>
      *
-     * @param e A {@link KeyEvent} to handle which relates to a Player action.
+     * @param e A {@link KeyEvent} to handle which relates to a Player action, or {@code null} if the queued events of the
+     *          current tick are applied.
      */
-    private void playerKeyAction(final KeyEvent e) {
+    private void playerKeyAction(final @Nullable KeyEvent e) {
         player.stop();
         player.setKeepShooting(false);
         Set<KeyCode> presses = gameController.getGameInputHandler().getKeysPressed();
@@ -95,11 +133,18 @@ public class PlayerController {
     }
 
     /**
-     * Registers the keyboard inputs to handle the player actions.
+     * Registers the keyboard inputs to queue the player actions. They are handled by {@link #playerKeyAction(KeyEvent)} at the
+     * start of the next tick. Other keys, like the ones that pause the game, are not queued, so they are not included in the
+     * {@linkplain GameInputHandler#getInputLatency() input latency}.
      */
     private void handleKeyboardInputs() {
         final var gameInputHandler = getGameController().getGameInputHandler();
-        gameInputHandler.addOnKeyPressed(this::playerKeyAction);
-        gameInputHandler.addOnKeyReleased(this::playerKeyAction);
+        final EventHandler<KeyEvent> queuePlayerKeys = e -> {
+            if (PLAYER_KEYS.contains(e.getCode())) {
+                gameInputHandler.queueKeyEvent(e);
+            }
+        };
+        gameInputHandler.addOnKeyPressed(queuePlayerKeys);
+        gameInputHandler.addOnKeyReleased(queuePlayerKeys);
     }
 }
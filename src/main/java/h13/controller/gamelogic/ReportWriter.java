@@ -0,0 +1,63 @@
+package h13.controller.gamelogic;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * The {@link ReportWriter} writes the reports of a game session, like the metrics, the input latency and the hitch dumps, to
+ * the disk.
+ * <br>
+ * All reports are written on a single background thread, so neither the renderer nor the simulation wait for the disk, and
+ * writes to the same file are done in the order they were submitted.
+ */
+public final class ReportWriter {
+
+    /**
+     * The single background thread all reports are written on.
+     */
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "report-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // --Constructors-- //
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private ReportWriter() {
+    }
+
+    // --Methods-- //
+
+    /**
+     * Writes the given content to the given file on the background thread, creating its parent directories if necessary.
+     *
+     * @param file    The file to write to.
+     * @param content Creates the content to write. It is called on the background thread, so expensive formatting does not
+     *                block the caller.
+     * @param options The options that specify how the file is opened, see {@link Files#writeString(Path, CharSequence,
+     *                OpenOption...)}.
+     * @return A {@link Future} that is completed once the file was written. It is also completed if writing the file failed.
+     */
+    public static Future<?> write(final Path file, final Supplier<? extends CharSequence> content, final OpenOption... options) {
+        return EXECUTOR.submit(() -> {
+            try {
+                final Path directory = file.toAbsolutePath().getParent();
+                if (directory != null) {
+                    Files.createDirectories(directory);
+                }
+                Files.writeString(file, content.get(), options);
+            } catch (final IOException e) {
+                e.printStackTrace();
+            }
+        });
+    }
+}
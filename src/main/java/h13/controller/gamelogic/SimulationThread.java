@@ -0,0 +1,207 @@
+package h13.controller.gamelogic;
+
+import h13.model.gameplay.GameSnapshot;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static h13.controller.GameConstants.MAX_SIMULATION_STEP;
+
+/**
+ * A {@link SimulationThread} runs a {@link GameSimulation} on its own thread at its fixed tick rate, independent of the
+ * JavaFX Application Thread.
+ * <br>
+ * The snapshots are handed to the renderer through a triple buffer of preallocated {@link GameSnapshot GameSnapshots}. At
+ * the end of every tick, the simulation fills the back buffer and atomically exchanges it with the published buffer. Once per
+ * frame, the renderer {@linkplain #acquireSnapshot() exchanges} its front buffer with the published one if a newer one is
+ * available. Every buffer is owned by exactly one side at a time, so the renderer always reads a complete snapshot without
+ * any locks and without copying, while the next tick is already being simulated on another core.
+ * The simulation itself must not be touched by other threads while the thread is running.
+ */
+public class SimulationThread {
+
+    /**
+     * The bit of {@link #published} that marks a buffer the renderer has not acquired yet.
+     */
+    private static final int FRESH = 4;
+
+    /**
+     * The bits of {@link #published} that hold the index of the buffer.
+     */
+    private static final int INDEX_MASK = 3;
+
+    // --Variables-- //
+
+    /**
+     * The simulation that is run.
+     */
+    private final GameSimulation simulation;
+
+    /**
+     * The three snapshot buffers.
+     */
+    private final GameSnapshot[] buffers = {new GameSnapshot(), new GameSnapshot(), new GameSnapshot()};
+
+    /**
+     * The index of the buffer that is filled next. Only accessed by the simulation thread.
+     */
+    private int back = 0;
+
+    /**
+     * The index of the buffer of the last finished tick, combined with {@link #FRESH} if the renderer has not acquired it yet.
+     */
+    private final AtomicInteger published = new AtomicInteger(1);
+
+    /**
+     * The index of the buffer that is read by the renderer. Only accessed by the renderer.
+     */
+    private int front = 2;
+
+    /**
+     * Whether the renderer has acquired a snapshot. Only accessed by the renderer.
+     */
+    private boolean acquired;
+
+    /**
+     * Whether the thread should keep running.
+     */
+    private volatile boolean running;
+
+    /**
+     * The thread the simulation is run on, or {@code null} if it is stopped.
+     */
+    private @Nullable Thread thread;
+
+    // --Constructors-- //
+
+    /**
+     * Creates a new, stopped {@link SimulationThread}.
+     *
+     * @param simulation The simulation to run.
+     */
+    public SimulationThread(final GameSimulation simulation) {
+        this.simulation = simulation;
+    }
+
+    // --Getters and Setters-- //
+
+    /**
+     * Gets the value of {@link #simulation} field.
+     *
+     * @return The value of {@link #simulation} field.
+     * @see #simulation
+     */
+    public GameSimulation getSimulation() {
+        return simulation;
+    }
+
+    /**
+     * Gets the snapshot that was last {@linkplain #acquireSnapshot() acquired} by the renderer. It does not change until the
+     * renderer acquires the next one. Must only be called by the renderer.
+     *
+     * @return The acquired snapshot, or {@code null} if none was acquired yet.
+     */
+    public @Nullable GameSnapshot getSnapshot() {
+        return acquired ? buffers[front] : null;
+    }
+
+    /**
+     * Checks whether the thread was started and not stopped since.
+     *
+     * @return {@code true} if the thread is running, {@code false} otherwise.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Gets the id of the thread the simulation is run on.
+     *
+     * @return The id of the thread, or {@code -1} if it is stopped.
+     */
+    public synchronized long getThreadId() {
+        return thread != null ? thread.getId() : -1;
+    }
+
+    // --Methods-- //
+
+    /**
+     * Fills the back buffer with the current state of the {@link #simulation} and publishes it. Must only be called by the
+     * thread that runs the simulation.
+     */
+    void publishSnapshot() {
+        simulation.fillSnapshot(buffers[back]);
+        back = published.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Acquires the latest published snapshot, if it is newer than the acquired one. The previously acquired buffer is handed
+     * back to the simulation, so the returned snapshot must only be read until the next call. Must be called by the renderer
+     * once at the start of every frame.
+     *
+     * @return The acquired snapshot, or {@code null} if none was published yet.
+     */
+    public @Nullable GameSnapshot acquireSnapshot() {
+        if ((published.get() & FRESH) != 0) {
+            front = published.getAndSet(front) & INDEX_MASK;
+            acquired = true;
+        }
+        return getSnapshot();
+    }
+
+    /**
+     * Starts simulating on a new thread. Does nothing if the thread is already running.
+     */
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "game-simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops simulating and waits until the current tick is finished, so the simulation can safely be accessed afterwards.
+     */
+    public synchronized void stop() {
+        running = false;
+        final Thread stopped = thread;
+        thread = null;
+        if (stopped == null || stopped == Thread.currentThread()) {
+            return;
+        }
+        try {
+            stopped.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Simulates ticks at the tick rate of the {@link #simulation} until the thread is stopped or the game is lost.
+     * If the thread falls behind more than {@link h13.controller.GameConstants#MAX_SIMULATION_STEP} seconds, the missed
+     * ticks are dropped.
+     */
+    private void run() {
+        final long tickNanos = (long) (simulation.getTickDuration() * 1e9);
+        final long maxLag = (long) (MAX_SIMULATION_STEP * 1e9);
+        long nextTick = System.nanoTime() + tickNanos;
+        publishSnapshot();
+        while (running && !simulation.isGameOver()) {
+            final long now = System.nanoTime();
+            if (now < nextTick) {
+                LockSupport.parkNanos(nextTick - now);
+                continue;
+            }
+            if (now - nextTick > maxLag) {
+                nextTick = now;
+            }
+            simulation.tick();
+            publishSnapshot();
+            nextTick += tickNanos;
+        }
+    }
+}
@@ -2,11 +2,18 @@ package h13.controller.scene.game;
 
 import h13.controller.ApplicationSettings;
 import h13.controller.gamelogic.EnemyController;
+import h13.controller.gamelogic.GameContext;
 import h13.controller.gamelogic.GameInputHandler;
+import h13.controller.gamelogic.GameSimulation;
+import h13.controller.gamelogic.PerformanceMonitor;
 import h13.controller.gamelogic.PlayerController;
+import h13.controller.gamelogic.ReportWriter;
+import h13.controller.gamelogic.SimulationThread;
 import h13.controller.scene.SceneController;
 import h13.model.HighscoreEntry;
+import h13.model.gameplay.GameSnapshot;
 import h13.model.gameplay.GameState;
+import h13.model.gameplay.Renderable;
 import h13.model.gameplay.Updatable;
 import h13.model.gameplay.sprites.*;
 import h13.view.gui.GameBoard;
@@ -19,17 +26,25 @@ import javafx.scene.control.ButtonType;
 import javafx.scene.control.TextInputDialog;
 import javafx.scene.input.KeyCode;
 import javafx.stage.Stage;
+import org.jetbrains.annotations.Nullable;
 
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
 import java.util.*;
-import java.util.stream.Collectors;
+
+import static h13.controller.GameConstants.REPORT_DIRECTORY;
+import static h13.controller.GameConstants.THREADED_SIMULATION;
 
 /**
  * A {@link SceneController} that controls the {@link GameScene}.
- * It is also responsible for the game loop and various other parts of the game logic.
+ * It drives the {@link GameSimulation} from the JavaFX game loop and renders the {@link GameBoard} once per frame.
+ * <br>
+ * If {@link h13.controller.GameConstants#THREADED_SIMULATION} is enabled, the simulation runs on a {@link SimulationThread}
+ * instead, which is started and stopped together with the {@link #gameLoop}, and the game loop only renders the latest
+ * {@link GameSnapshot}.
  */
 
-public class GameController extends SceneController implements Updatable {
+public class GameController extends SceneController implements GameContext, Updatable {
 
     // --Variables-- //
 
@@ -75,8 +90,26 @@ public class GameController extends SceneController implements Updatable {
      */
     private GameInputHandler gameInputHandler;
 
+    /**
+     * The {@link GameSimulation} that advances the game logic in fixed ticks.
+     *
+     * @see #simulation
+     */
+    private GameSimulation simulation;
+
+    /**
+     * The {@link SimulationThread} that runs the {@link #simulation}, or {@code null} if it is run by the {@link #gameLoop}.
+     */
+    private @Nullable SimulationThread simulationThread;
+
+    /**
+     * The {@link PerformanceMonitor} that collects the frame rate and the phase durations of the game loop.
+     */
+    private PerformanceMonitor performanceMonitor;
+
     /**
      * A {@link AnimationTimer} that represents the game loop.
+     * Starting and stopping it also starts and stops the {@link #simulationThread}.
      */
     private final AnimationTimer gameLoop = new AnimationTimer() {
         @Override
@@ -89,6 +122,25 @@ public class GameController extends SceneController implements Updatable {
                 lastUpdate = now;
             }
         }
+
+        @Override
+        public void start() {
+            super.start();
+            if (performanceMonitor != null) {
+                performanceMonitor.resumed();
+            }
+            if (simulationThread != null && !isPaused()) {
+                simulationThread.start();
+            }
+        }
+
+        @Override
+        public void stop() {
+            super.stop();
+            if (simulationThread != null) {
+                simulationThread.stop();
+            }
+        }
     };
 
     // --Constructors-- //
@@ -111,6 +163,7 @@ public class GameController extends SceneController implements Updatable {
      * @return The value of {@link #gameState} field.
      * @see #gameState
      */
+    @Override
     public GameState getGameState() {
         return gameState;
     }
@@ -171,6 +224,7 @@ public class GameController extends SceneController implements Updatable {
      * @return The value of {@link #gameInputHandler} field.
      * @see #gameInputHandler
      */
+    @Override
     public GameInputHandler getGameInputHandler() {
         return gameInputHandler;
     }
@@ -185,6 +239,45 @@ public class GameController extends SceneController implements Updatable {
         this.gameInputHandler = gameInputHandler;
     }
 
+    /**
+     * Gets the value of {@link #simulation} field.
+     *
+     * @return The value of {@link #simulation} field.
+     * @see #simulation
+     */
+    public GameSimulation getSimulation() {
+        return simulation;
+    }
+
+    /**
+     * Gets the value of {@link #simulationThread} field.
+     *
+     * @return The value of {@link #simulationThread} field.
+     * @see #simulationThread
+     */
+    public @Nullable SimulationThread getSimulationThread() {
+        return simulationThread;
+    }
+
+    /**
+     * Gets the value of {@link #performanceMonitor} field.
+     *
+     * @return The value of {@link #performanceMonitor} field.
+     * @see #performanceMonitor
+     */
+    public PerformanceMonitor getPerformanceMonitor() {
+        return performanceMonitor;
+    }
+
+    /**
+     * Gets the {@link GameSnapshot} of the {@link #simulationThread} that is rendered in the current frame.
+     *
+     * @return The rendered snapshot, or {@code null} if the simulation does not run on its own thread.
+     */
+    public @Nullable GameSnapshot getSnapshot() {
+        return simulationThread != null ? simulationThread.getSnapshot() : null;
+    }
+
     /**
      * Gets the value of the {@link #gameLoop} field.
      *
@@ -245,11 +338,12 @@ public class GameController extends SceneController implements Updatable {
         // Keyboard input handler
         setGameInputHandler(new GameInputHandler(getGameScene()));
 
-        // Player
-        setPlayerController(new PlayerController(this));
-
-        // Enemies
-        setEnemyController(new EnemyController(this));
+        // Simulation, which creates the player and the enemies
+        simulation = new GameSimulation(getGameState(), getGameInputHandler());
+        setPlayerController(simulation.getPlayerController());
+        setEnemyController(simulation.getEnemyController());
+        simulationThread = THREADED_SIMULATION ? new SimulationThread(simulation) : null;
+        performanceMonitor = new PerformanceMonitor(simulation, simulationThread);
 
         // register keybindings for the game scene
         handleKeyboardInputs();
@@ -263,6 +357,9 @@ public class GameController extends SceneController implements Updatable {
      */
     public void pause() {
         paused = true;
+        if (simulationThread != null) {
+            simulationThread.stop();
+        }
     }
 
     /**
@@ -270,15 +367,19 @@ public class GameController extends SceneController implements Updatable {
      */
     public void resume() {
         paused = false;
+        if (performanceMonitor != null) {
+            performanceMonitor.resumed();
+        }
+        if (simulationThread != null) {
+            simulationThread.start();
+        }
     }
 
     /**
      * Prepares the next level if the current level is finished.
      */
     public void refillEnemiesIfNecessary() {
-        if (getEnemyController() != null && getEnemyController().isDefeated()) {
-            getEnemyController().nextLevel();
-        }
+        getSimulation().refillEnemiesIfNecessary();
     }
 
     /**
@@ -286,6 +387,7 @@ public class GameController extends SceneController implements Updatable {
      */
     private void lose() {
         gameLoop.stop();
+        exportLatencyReport();
         TextInputDialog highscore = new TextInputDialog();
         highscore.setTitle("Resume");
         highscore.setHeaderText("You have lost!");
@@ -314,6 +416,16 @@ public class GameController extends SceneController implements Updatable {
         }
     }
 
+    /**
+     * Writes the input latency of this session to a new file in the {@link h13.controller.GameConstants#REPORT_DIRECTORY}
+     * with the {@link ReportWriter}, so the JavaFX Application Thread does not wait for the disk.
+     */
+    private void exportLatencyReport() {
+        final String timestamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        final String report = getGameInputHandler().getInputLatency().createReport();
+        ReportWriter.write(Path.of(REPORT_DIRECTORY, "latency-" + timestamp + ".txt"), () -> report);
+    }
+
     /**
      * Resets the sprites and starts a new game.
      */
@@ -344,6 +456,8 @@ public class GameController extends SceneController implements Updatable {
                 }
             } else if (input == KeyCode.F11) {
                 getStage().setFullScreen(true);
+            } else if (input == KeyCode.F3) {
+                getGameBoard().getDebugOverlay().toggle();
             }
         });
     }
@@ -351,59 +465,72 @@ public class GameController extends SceneController implements Updatable {
     @Override
     public void update(final double elapsedTime) {
         Platform.runLater(() -> {
-            // Add new Sprites
-            getGameState().getSprites().addAll(getGameState().getToAdd());
-            getGameState().getToAdd().clear();
-
-            // Movement
+            if (simulationThread != null) {
+                renderSnapshot(elapsedTime);
+                return;
+            }
+            if (getSimulation().isGameOver()) {
+                return;
+            }
             updateOthers(elapsedTime);
 
-            // Hit detection
-            doCollisions();
-
-            final var killed = getGameState().getSprites().stream().filter(Sprite::isDead).collect(Collectors.toList());
-            // check if the player is isDefeated
-            updatePoints(killed);
-
             // check loose condition
-            if (killed.contains(getPlayer()) || getGameState().getEnemyMovement().bottomWasReached()) {
+            if (getSimulation().isGameOver()) {
                 lose();
             }
-
-            killed.forEach(getGameState().getSprites()::remove);
-
-            refillEnemiesIfNecessary();
         });
     }
 
     /**
-     * Updates the {@link Sprite}s and the other Controllers.
+     * Advances the {@link #simulation} by the given elapsed time and renders the {@link GameBoard}.
      */
     private void updateOthers(final double elapsedTime) {
-        // update the Enemy Movement
-        getGameState().getEnemyMovement().update(elapsedTime);
-        getGameState().getSprites()
-            .forEach(s -> s.update(elapsedTime));
+        getSimulation().update(elapsedTime);
+        renderBoard(elapsedTime, getSimulation().getTickCount(), getGameState().getSprites());
+    }
+
+    /**
+     * Renders the {@link GameBoard} and reports the frame to the {@link #performanceMonitor}.
+     *
+     * @param elapsedTime The time elapsed since the last frame in seconds.
+     * @param tick        The tick that is rendered.
+     * @param sprites     The sprites that are rendered.
+     */
+    private void renderBoard(final double elapsedTime, final long tick, final Collection<? extends Renderable> sprites) {
+        final long start = System.nanoTime();
         getGameBoard().update(elapsedTime);
+        if (performanceMonitor != null) {
+            performanceMonitor.frameRendered(elapsedTime, System.nanoTime() - start, tick, sprites);
+        }
+    }
+
+    /**
+     * Renders the latest {@link GameSnapshot} of the {@link #simulationThread} and handles the end of the game.
+     *
+     * @param elapsedTime The time elapsed since the last frame in seconds.
+     */
+    private void renderSnapshot(final double elapsedTime) {
+        final GameSnapshot snapshot = simulationThread.acquireSnapshot();
+        if (snapshot == null) {
+            // nothing was simulated yet, the live state must not be read while the thread is running
+            return;
+        }
+        renderBoard(elapsedTime, snapshot.getTick(), snapshot.getSprites());
+
+        // the simulation thread is stopped by the first frame that sees the lost game
+        if (snapshot.isGameOver() && simulationThread.isRunning()) {
+            lose();
+        }
     }
 
     /**
      * Calculate the collision between the sprites and damages the collided sprites.
+     * The collisions are detected by the {@link #simulation}, which does this in every tick.
+     *
+     * @see GameSimulation#doCollisions()
      */
     private void doCollisions() {
-        List<Sprite> sprites = gameState.getSprites().stream().toList();
-
-        for(int i = 0; i < sprites.size(); i++) {
-            if (sprites.get(i) instanceof Bullet bullet) {
-                for (Sprite sprite : sprites) {
-                    if (sprite instanceof BattleShip battleShip) {
-                        if (bullet.canHit(battleShip)) {
-                            bullet.hit(battleShip);
-                        }
-                    }
-                }
-            }
-        }
+        getSimulation().doCollisions();
     }
 
     /**
@@ -412,10 +539,6 @@ public class GameController extends SceneController implements Updatable {
      * @param damaged The damaged sprites.
      */
     public void updatePoints(final List<Sprite> damaged) {
-        for (Sprite sprite : damaged) {
-            if (sprite instanceof Enemy && sprite.isDead()) {
-                getPlayer().addPoints(((Enemy) sprite).getPointsWorth());
-            }
-        }
+        getPlayerController().updatePoints(damaged);
     }
 }
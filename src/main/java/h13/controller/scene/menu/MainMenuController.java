@@ -1,6 +1,8 @@
 package h13.controller.scene.menu;
 
 import h13.controller.scene.SceneController;
+import h13.shared.AssetCache;
+import javafx.concurrent.Task;
 import javafx.event.ActionEvent;
 
 /**
@@ -13,6 +15,16 @@ public class MainMenuController extends SceneController {
         return "Space Invaders - Main Menu";
     }
 
+    /**
+     * Starts preloading the game assets in the background, so that starting a game does not need to decode any textures.
+     *
+     * @return The preload {@link Task}, whose value is the total loading time in milliseconds.
+     * @see AssetCache#preload()
+     */
+    public Task<Long> preloadAssets() {
+        return AssetCache.preload();
+    }
+
     /**
      * Called when the user clicks the "Quit" button.
      *
@@ -23,6 +23,11 @@ public class SettingsController extends SceneController {
      */
     public CheckBox loadBackgroundCheckBox;
 
+    /**
+     * The checkbox for the "native resolution" setting.
+     */
+    public CheckBox nativeResolutionCheckBox;
+
     /**
      * The checkbox for the "instant shooting" setting.
      */
@@ -54,5 +59,6 @@ public class SettingsController extends SceneController {
         fullscreenCheckBox.selectedProperty().bindBidirectional(ApplicationSettings.fullscreenProperty());
         loadTexturesCheckBox.selectedProperty().bindBidirectional(ApplicationSettings.loadTexturesProperty());
         loadBackgroundCheckBox.selectedProperty().bindBidirectional(ApplicationSettings.loadBackgroundProperty());
+        nativeResolutionCheckBox.selectedProperty().bindBidirectional(ApplicationSettings.nativeResolutionProperty());
     }
 }
@@ -0,0 +1,214 @@
+package h13.model.gameplay;
+
+import h13.model.gameplay.sprites.BattleShip;
+import h13.model.gameplay.sprites.Bullet;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static h13.controller.GameConstants.BULLET_POOL_EVICTION_POLICY;
+import static h13.controller.GameConstants.MAX_LIVE_BULLETS;
+
+/**
+ * A {@link BulletPool} recycles {@linkplain Bullet bullets} that died or left the game board, so shooting does not allocate
+ * once the pool is warmed up.
+ * <br>
+ * At most {@link h13.controller.GameConstants#MAX_LIVE_BULLETS} bullets of the pool are live at the same time. When that
+ * cap is reached, the {@link h13.controller.GameConstants#BULLET_POOL_EVICTION_POLICY} decides what happens to a new shot.
+ * A bullet counts as live from {@link #acquire} until it is {@linkplain #release released} by the {@link GameState}.
+ */
+public class BulletPool {
+
+    /**
+     * Defines what happens when a bullet is requested while the maximum amount of live bullets is reached.
+     */
+    public enum EvictionPolicy {
+        /**
+         * The new shot is dropped, the live bullets are left untouched.
+         */
+        REJECT_NEW,
+        /**
+         * The oldest live bullet is taken off the board and reused for the new shot.
+         */
+        RECYCLE_OLDEST
+    }
+
+    // --Variables-- //
+
+    /**
+     * The live bullets in the order they were acquired.
+     */
+    private final Deque<Bullet> live = new ArrayDeque<>();
+
+    /**
+     * The released bullets that can be reused.
+     */
+    private final Deque<Bullet> free = new ArrayDeque<>();
+
+    /**
+     * The {@link GameState} the pooled bullets belong to.
+     */
+    private final GameState gameState;
+
+    /**
+     * The amount of requests that were served by a released bullet.
+     */
+    private long hits;
+
+    /**
+     * The amount of requests that had to allocate a new bullet.
+     */
+    private long misses;
+
+    /**
+     * The amount of live bullets that were recycled because the pool was full.
+     */
+    private long evictions;
+
+    /**
+     * The amount of requests that were rejected because the pool was full.
+     */
+    private long rejections;
+
+    // --Constructors-- //
+
+    /**
+     * Creates a new, empty {@link BulletPool}.
+     *
+     * @param gameState The {@link GameState} the pooled bullets belong to.
+     */
+    public BulletPool(final GameState gameState) {
+        this.gameState = gameState;
+    }
+
+    // --Getters and Setters-- //
+
+    /**
+     * Gets the value of {@link #hits} field.
+     *
+     * @return The value of {@link #hits} field.
+     * @see #hits
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the value of {@link #misses} field.
+     *
+     * @return The value of {@link #misses} field.
+     * @see #misses
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Gets the value of {@link #evictions} field.
+     *
+     * @return The value of {@link #evictions} field.
+     * @see #evictions
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Gets the value of {@link #rejections} field.
+     *
+     * @return The value of {@link #rejections} field.
+     * @see #rejections
+     */
+    public long getRejections() {
+        return rejections;
+    }
+
+    /**
+     * Gets the amount of live bullets.
+     *
+     * @return The amount of live bullets.
+     */
+    public int getLiveCount() {
+        return live.size();
+    }
+
+    /**
+     * Gets the amount of released bullets that are ready to be reused.
+     *
+     * @return The amount of released bullets.
+     */
+    public int getFreeCount() {
+        return free.size();
+    }
+
+    // --Methods-- //
+
+    /**
+     * Gets a {@link Bullet} that is initialized with the given parameters, reusing a released one if possible.
+     *
+     * @param x         The initial x-coordinate of the Bullet.
+     * @param y         The initial y-coordinate of the Bullet.
+     * @param owner     The owner of the Bullet.
+     * @param direction The direction the Bullet is travelling towards.
+     * @return The Bullet, or {@code null} if the pool is full and the shot was rejected.
+     */
+    public @Nullable Bullet acquire(final double x, final double y, final BattleShip owner, final Direction direction) {
+        final Bullet bullet;
+        if (live.size() >= MAX_LIVE_BULLETS) {
+            if (BULLET_POOL_EVICTION_POLICY == EvictionPolicy.REJECT_NEW || live.isEmpty()) {
+                rejections++;
+                return null;
+            }
+            bullet = live.pollFirst();
+            detach(bullet);
+            evictions++;
+        } else if (!free.isEmpty()) {
+            bullet = free.pop();
+            hits++;
+        } else {
+            misses++;
+            bullet = new Bullet(x, y, gameState, owner, direction);
+            live.addLast(bullet);
+            return bullet;
+        }
+        bullet.reset(x, y, owner, direction);
+        live.addLast(bullet);
+        return bullet;
+    }
+
+    /**
+     * Returns the given {@link Bullet} to the pool after it was removed from the {@link GameState}.
+     * Bullets that were not acquired from this pool are ignored.
+     *
+     * @param bullet The removed Bullet.
+     */
+    public void release(final Bullet bullet) {
+        if (live.removeFirstOccurrence(bullet)) {
+            detach(bullet);
+            free.push(bullet);
+        }
+    }
+
+    /**
+     * Returns all live bullets to the pool, e.g. after the {@link GameState} was cleared.
+     */
+    public void releaseAll() {
+        while (!live.isEmpty()) {
+            final Bullet bullet = live.pollFirst();
+            detach(bullet);
+            free.push(bullet);
+        }
+    }
+
+    /**
+     * Removes the given {@link Bullet} from its owner, so the owner does not see it again once it is reused.
+     *
+     * @param bullet The Bullet to detach.
+     */
+    private void detach(final Bullet bullet) {
+        if (bullet.getOwner().getBullet() == bullet) {
+            bullet.getOwner().setBullet(null);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package h13.model.gameplay;
+
+import h13.model.gameplay.sprites.BattleShip;
+import h13.model.gameplay.sprites.Bullet;
+import h13.model.gameplay.sprites.Sprite;
+import h13.shared.jfr.CollisionEvent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static h13.controller.GameConstants.CHUNK_SIZE;
+import static h13.controller.GameConstants.ORIGINAL_GAME_BOUNDS;
+
+/**
+ * A {@link CollisionGrid} is a uniform-grid spatial hash over the {@link h13.controller.GameConstants#ORIGINAL_GAME_BOUNDS}
+ * that is used as a broadphase for the collisions between {@linkplain Bullet bullets} and {@linkplain BattleShip battle ships}.
+ * <br>
+ * Each cell is {@link h13.controller.GameConstants#CHUNK_SIZE} wide and high. Sprites outside the game bounds are put into the
+ * nearest border cell, so no possible collision is missed.
+ */
+public class CollisionGrid {
+
+    // --Variables-- //
+
+    /**
+     * The cells of the grid in row-major order. Each cell contains the alive {@linkplain BattleShip battle ships} overlapping it.
+     * The cell lists are reused between rebuilds.
+     */
+    private final List<List<BattleShip>> cells = new ArrayList<>();
+
+    /**
+     * The amount of columns of the grid.
+     */
+    private int columns;
+
+    /**
+     * The amount of rows of the grid.
+     */
+    private int rows;
+
+    /**
+     * The width and height of a single cell.
+     */
+    private double cellSize;
+
+    /**
+     * The x-coordinate of the top left corner of the grid.
+     */
+    private double originX;
+
+    /**
+     * The y-coordinate of the top left corner of the grid.
+     */
+    private double originY;
+
+    // --Getters and Setters-- //
+
+    /**
+     * Gets the value of {@link #columns} field.
+     *
+     * @return The value of {@link #columns} field.
+     * @see #columns
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the value of {@link #rows} field.
+     *
+     * @return The value of {@link #rows} field.
+     * @see #rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    // --Utility Methods-- //
+
+    /**
+     * Adapts the grid layout to the current {@link h13.controller.GameConstants#ORIGINAL_GAME_BOUNDS} and
+     * {@link h13.controller.GameConstants#CHUNK_SIZE}. Cell lists are only allocated when the grid grows.
+     */
+    private void resize() {
+        cellSize = CHUNK_SIZE;
+        originX = ORIGINAL_GAME_BOUNDS.getMinX();
+        originY = ORIGINAL_GAME_BOUNDS.getMinY();
+        columns = Math.max(1, (int) Math.ceil(ORIGINAL_GAME_BOUNDS.getWidth() / cellSize));
+        rows = Math.max(1, (int) Math.ceil(ORIGINAL_GAME_BOUNDS.getHeight() / cellSize));
+        while (cells.size() < columns * rows) {
+            cells.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Gets the column that contains the given x-coordinate, clamped to the grid.
+     *
+     * @param x The x-coordinate.
+     * @return The column index.
+     */
+    private int columnOf(final double x) {
+        return Math.max(0, Math.min(columns - 1, (int) Math.floor((x - originX) / cellSize)));
+    }
+
+    /**
+     * Gets the row that contains the given y-coordinate, clamped to the grid.
+     *
+     * @param y The y-coordinate.
+     * @return The row index.
+     */
+    private int rowOf(final double y) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor((y - originY) / cellSize)));
+    }
+
+    // --Methods-- //
+
+    /**
+     * Clears the grid and inserts every alive {@link BattleShip} of the given sprites into all cells it overlaps.
+     * <br>
+     * Dead battle ships are skipped since {@link Bullet#canHit(BattleShip)} can never be true for them.
+     *
+     * @param sprites The sprites to insert.
+     */
+    public void rebuild(final Collection<? extends Sprite> sprites) {
+        resize();
+        for (final List<BattleShip> cell : cells) {
+            cell.clear();
+        }
+        for (final Sprite sprite : sprites) {
+            if (sprite instanceof BattleShip battleShip && battleShip.isAlive()) {
+                final int minColumn = columnOf(battleShip.getX());
+                final int maxColumn = columnOf(battleShip.getX() + battleShip.getWidth());
+                final int minRow = rowOf(battleShip.getY());
+                final int maxRow = rowOf(battleShip.getY() + battleShip.getHeight());
+                for (int row = minRow; row <= maxRow; row++) {
+                    for (int column = minColumn; column <= maxColumn; column++) {
+                        cells.get(row * columns + column).add(battleShip);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Calculates the collisions between the given sprites and damages the collided sprites.
+     * <br>
+     * Every {@link Bullet} is only tested against the {@linkplain BattleShip battle ships} in the cells it overlaps, using
+     * {@link Bullet#canHit(BattleShip)} and {@link Bullet#hit(BattleShip)}. A battle ship spanning multiple cells may be
+     * tested more than once, which is harmless because a bullet never hits the same battle ship twice.
+     *
+     * @param sprites The sprites to check for collisions.
+     */
+    public void doCollisions(final Collection<? extends Sprite> sprites) {
+        final CollisionEvent event = new CollisionEvent();
+        event.begin();
+        int bullets = 0;
+        int hits = 0;
+        rebuild(sprites);
+        for (final Sprite sprite : sprites) {
+            if (sprite instanceof Bullet bullet) {
+                bullets++;
+                final int minColumn = columnOf(bullet.getX());
+                final int maxColumn = columnOf(bullet.getX() + bullet.getWidth());
+                final int minRow = rowOf(bullet.getY());
+                final int maxRow = rowOf(bullet.getY() + bullet.getHeight());
+                for (int row = minRow; row <= maxRow; row++) {
+                    for (int column = minColumn; column <= maxColumn; column++) {
+                        final List<BattleShip> cell = cells.get(row * columns + column);
+                        for (int i = 0; i < cell.size(); i++) {
+                            final BattleShip battleShip = cell.get(i);
+                            if (bullet.canHit(battleShip)) {
+                                bullet.hit(battleShip);
+                                hits++;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.spriteCount = sprites.size();
+            event.bulletCount = bullets;
+            event.hitCount = hits;
+            event.commit();
+        }
+    }
+}
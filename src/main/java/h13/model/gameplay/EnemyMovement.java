@@ -2,7 +2,6 @@ package h13.model.gameplay;
 
 import h13.model.gameplay.sprites.Enemy;
 import h13.shared.Utils;
-import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
 
 import static h13.controller.GameConstants.*;
@@ -110,30 +109,12 @@ public class EnemyMovement implements Updatable {
 
     /**
      * Creates a BoundingBox around all alive enemies.
+     * The bounds are tracked incrementally by the {@link Formation}, so this is a constant-time lookup.
      *
      * @return The BoundingBox.
      */
     public Bounds getEnemyBounds() {
-        double minX = Double.MAX_VALUE;
-        double minY = Double.MAX_VALUE;
-        double maxX = Double.MIN_VALUE;
-        double maxY = Double.MIN_VALUE;
-
-        for (Enemy enemy : getGameState().getEnemies()) {
-            if (enemy.getBounds().getMinX() < minX) {
-                minX = enemy.getBounds().getMinX();
-            }
-            if (enemy.getBounds().getMinY() < minY) {
-                minY = enemy.getBounds().getMinY();
-            }
-            if (enemy.getBounds().getMaxX() > maxX) {
-                maxX = enemy.getBounds().getMaxX();
-            }
-            if (enemy.getBounds().getMaxY() > maxY) {
-                maxY = enemy.getBounds().getMaxY();
-            }
-        }
-        return new BoundingBox(minX, minY, maxX - minX, maxY - minY);
+        return getGameState().getFormation().getBounds();
     }
 
     /**
@@ -167,20 +148,22 @@ public class EnemyMovement implements Updatable {
     }
 
     /**
-     * Updates the positions of all alive enemies.
+     * Updates the positions of all enemies by moving the origin of their {@link Formation}.
+     * The movement is clamped so that the formation stays within the game bounds.
      *
      * @param deltaX The deltaX.
      * @param deltaY The deltaY.
      */
     public void updatePositions(final double deltaX, final double deltaY) {
-        for (Enemy enemy : gameState.getEnemies()) {
-            Bounds futureEnemyBound = new BoundingBox(enemy.getX() + deltaX, enemy.getY() + deltaY,
-                enemy.getWidth(), enemy.getHeight());
-            futureEnemyBound = Utils.clamp(futureEnemyBound);
-
-            enemy.setX(futureEnemyBound.getMinX());
-            enemy.setY(futureEnemyBound.getMinY());
+        final Formation formation = gameState.getFormation();
+        if (!formation.hasAliveMembers()) {
+            return;
         }
+        final double minX = formation.getMinX();
+        final double minY = formation.getMinY();
+        final double newMinX = Utils.clampX(minX + deltaX, formation.getMaxX() - minX);
+        final double newMinY = Utils.clampY(minY + deltaY, formation.getMaxY() - minY);
+        formation.translate(newMinX - minX, newMinY - minY);
     }
 
     /**
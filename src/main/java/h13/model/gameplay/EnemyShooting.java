@@ -0,0 +1,250 @@
+package h13.model.gameplay;
+
+import h13.controller.ApplicationSettings;
+import h13.model.gameplay.sprites.Enemy;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static h13.controller.GameConstants.ENEMY_SHOOTING_REFERENCE_FRAME_RATE;
+
+/**
+ * The {@link EnemyShooting} class is responsible for letting the {@linkplain Enemy enemies} of a {@link GameState} shoot.
+ * <br>
+ * Like in the original game, only the lowest alive enemy of each column (its front line) may shoot. The enemies are grouped
+ * by {@link Enemy#getXIndex()} and the front line of a column is only recomputed when its current front-line enemy dies or
+ * leaves.
+ * <br>
+ * Instead of rolling the {@linkplain ApplicationSettings#enemyShootingProbabilityProperty() shooting probability} on every
+ * frame, the time until the next shot of each column is drawn once and scheduled on the {@link TimerWheel} of the
+ * {@link GameState}. The per-frame probability is interpreted at {@link h13.controller.GameConstants#ENEMY_SHOOTING_REFERENCE_FRAME_RATE}
+ * and converted into a rate, so the fire rate does not depend on the frame or tick rate.
+ */
+public class EnemyShooting {
+
+    /**
+     * A {@link Column} contains all enemies with the same {@link Enemy#getXIndex()}.
+     */
+    private class Column {
+
+        /**
+         * The enemies of the column.
+         */
+        private final List<Enemy> members = new ArrayList<>();
+
+        /**
+         * The lowest alive enemy of the column, if any.
+         */
+        private @Nullable Enemy frontLine;
+
+        /**
+         * The timer of the next shot of the column.
+         */
+        private final TimerWheel.Timer timer = new TimerWheel.Timer(this::shoot);
+
+        /**
+         * Recomputes the {@link #frontLine} and schedules or cancels the next shot accordingly.
+         */
+        private void updateFrontLine() {
+            frontLine = null;
+            for (final Enemy enemy : members) {
+                if (enemy.isAlive() && (frontLine == null || isBelow(enemy, frontLine))) {
+                    frontLine = enemy;
+                }
+            }
+            if (frontLine == null) {
+                gameState.getTimerWheel().cancel(timer);
+            } else if (!timer.isScheduled()) {
+                scheduleNextShot(timer);
+            }
+        }
+
+        /**
+         * Lets the {@link #frontLine} shoot and schedules the next shot.
+         */
+        private void shoot() {
+            if (frontLine == null) {
+                return;
+            }
+            frontLine.shoot();
+            scheduleNextShot(timer);
+        }
+    }
+
+    // --Variables-- //
+
+    /**
+     * The {@link GameState} whose enemies are shooting.
+     */
+    private final GameState gameState;
+
+    /**
+     * The columns by their x-index.
+     */
+    private final Map<Integer, Column> columns = new HashMap<>();
+
+    /**
+     * The column of each managed {@link Enemy}.
+     */
+    private final Map<Enemy, Column> columnOf = new HashMap<>();
+
+    /**
+     * The random number generator used to draw the shot delays.
+     */
+    private final Random random = new Random();
+
+    // --Constructors-- //
+
+    /**
+     * Creates a new {@link EnemyShooting}.
+     *
+     * @param gameState The {@link GameState} whose enemies are shooting.
+     */
+    public EnemyShooting(final GameState gameState) {
+        this.gameState = gameState;
+    }
+
+    // --Getters and Setters-- //
+
+    /**
+     * Gets the value of {@link #gameState} field.
+     *
+     * @return The value of {@link #gameState} field.
+     * @see #gameState
+     */
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    /**
+     * Checks whether the shots of the given {@link Enemy} are scheduled by this {@link EnemyShooting}.
+     *
+     * @param enemy The enemy to check.
+     * @return {@code true} if the enemy is managed, {@code false} otherwise.
+     */
+    public boolean isManaged(final Enemy enemy) {
+        return columnOf.containsKey(enemy);
+    }
+
+    /**
+     * Gets the lowest alive enemy of the column with the given x-index, which is the only enemy of the column that may shoot.
+     *
+     * @param xIndex The x-index of the column.
+     * @return The front-line enemy, or {@code null} if the column has no alive enemies.
+     */
+    public @Nullable Enemy getFrontLine(final int xIndex) {
+        final Column column = columns.get(xIndex);
+        return column == null ? null : column.frontLine;
+    }
+
+    // --Utility Methods-- //
+
+    /**
+     * Checks whether the first enemy is further down in its column than the second one.
+     *
+     * @param enemy The first enemy.
+     * @param other The second enemy.
+     * @return {@code true} if the first enemy is below the second one, {@code false} otherwise.
+     */
+    private static boolean isBelow(final Enemy enemy, final Enemy other) {
+        return enemy.getYIndex() != other.getYIndex() ? enemy.getYIndex() > other.getYIndex() : enemy.getY() > other.getY();
+    }
+
+    /**
+     * Gets the time until the next shot of a column, consisting of the
+     * {@linkplain ApplicationSettings#enemyShootingDelayProperty() shooting delay} and an exponentially distributed wait.
+     *
+     * @return The delay in seconds, or {@link Double#POSITIVE_INFINITY} if enemies never shoot.
+     */
+    private double nextShotDelay() {
+        final double probability = ApplicationSettings.enemyShootingProbabilityProperty().get();
+        final double cooldown = ApplicationSettings.enemyShootingDelayProperty().get() / 1000;
+        if (probability <= 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        if (probability >= 1) {
+            return cooldown;
+        }
+        // shots per second of a per-frame Bernoulli trial at the reference frame rate
+        final double rate = -Math.log1p(-probability) * ENEMY_SHOOTING_REFERENCE_FRAME_RATE;
+        return cooldown - Math.log1p(-random.nextDouble()) / rate;
+    }
+
+    /**
+     * Schedules the next shot of the given timer.
+     *
+     * @param timer The timer of the column.
+     */
+    private void scheduleNextShot(final TimerWheel.Timer timer) {
+        final double delay = nextShotDelay();
+        if (Double.isFinite(delay)) {
+            gameState.getTimerWheel().schedule(timer, delay);
+        }
+    }
+
+    // --Methods-- //
+
+    /**
+     * Adds the given {@link Enemy} to the column of its x-index.
+     *
+     * @param enemy The enemy to add.
+     */
+    public void add(final Enemy enemy) {
+        if (columnOf.containsKey(enemy)) {
+            return;
+        }
+        final Column column = columns.computeIfAbsent(enemy.getXIndex(), xIndex -> new Column());
+        column.members.add(enemy);
+        columnOf.put(enemy, column);
+        if (enemy.isAlive() && (column.frontLine == null || isBelow(enemy, column.frontLine))) {
+            column.updateFrontLine();
+        }
+    }
+
+    /**
+     * Removes the given {@link Enemy} from its column.
+     *
+     * @param enemy The enemy to remove.
+     */
+    public void remove(final Enemy enemy) {
+        final Column column = columnOf.remove(enemy);
+        if (column == null) {
+            return;
+        }
+        column.members.remove(enemy);
+        if (column.members.isEmpty()) {
+            gameState.getTimerWheel().cancel(column.timer);
+            columns.remove(enemy.getXIndex());
+        } else if (column.frontLine == enemy) {
+            column.updateFrontLine();
+        }
+    }
+
+    /**
+     * Removes all enemies and cancels all scheduled shots.
+     */
+    public void clear() {
+        columns.values().forEach(column -> gameState.getTimerWheel().cancel(column.timer));
+        columns.clear();
+        columnOf.clear();
+    }
+
+    /**
+     * Updates the front line of the column of the given {@link Enemy} after it died or was revived.
+     *
+     * @param enemy The enemy whose alive state changed.
+     */
+    public void updateAliveState(final Enemy enemy) {
+        final Column column = columnOf.get(enemy);
+        if (column == null) {
+            return;
+        }
+        if (enemy.isAlive() ? column.frontLine == null || isBelow(enemy, column.frontLine) : column.frontLine == enemy) {
+            column.updateFrontLine();
+        }
+    }
+}
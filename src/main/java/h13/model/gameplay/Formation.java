@@ -0,0 +1,361 @@
+package h13.model.gameplay;
+
+import h13.model.gameplay.sprites.Enemy;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link Formation} is a rigid group of {@linkplain Enemy enemies} that moves as a whole.
+ * <br>
+ * The origin is the only state that moves. The position of each member is stored relative to the origin and its absolute
+ * position is derived on demand, so moving the formation is independent of its size.
+ * <br>
+ * The bounds of the alive members are tracked incrementally relative to the origin, together with the amount of alive
+ * members in every column ({@link Enemy#getXIndex()}) and row ({@link Enemy#getYIndex()}). The bounds are only recomputed
+ * when the last alive member of a column or row at one of the edges dies or leaves, or when a member is moved within the
+ * formation.
+ *
+ * @see EnemyMovement
+ */
+public class Formation {
+
+    // --Variables-- //
+
+    /**
+     * The x-coordinate of the origin.
+     */
+    private double originX = 0;
+
+    /**
+     * The y-coordinate of the origin.
+     */
+    private double originY = 0;
+
+    /**
+     * The {@linkplain Enemy enemies} that are part of this formation.
+     */
+    private final Set<Enemy> members = new HashSet<>();
+
+    /**
+     * Read-only view of {@link #members}.
+     */
+    private final Set<Enemy> membersView = Collections.unmodifiableSet(members);
+
+    /**
+     * The members that are counted as alive in the {@link #aliveColumns} and {@link #aliveRows}.
+     */
+    private final Set<Enemy> aliveMembers = new HashSet<>();
+
+    /**
+     * The amount of alive members by {@link Enemy#getXIndex()}. Columns without alive members are removed.
+     */
+    private final Map<Integer, Integer> aliveColumns = new HashMap<>();
+
+    /**
+     * The amount of alive members by {@link Enemy#getYIndex()}. Rows without alive members are removed.
+     */
+    private final Map<Integer, Integer> aliveRows = new HashMap<>();
+
+    /**
+     * The smallest x-coordinate of all alive members, relative to the origin.
+     */
+    private double minX;
+
+    /**
+     * The smallest y-coordinate of all alive members, relative to the origin.
+     */
+    private double minY;
+
+    /**
+     * The largest x-coordinate of all alive members, relative to the origin.
+     */
+    private double maxX;
+
+    /**
+     * The largest y-coordinate of all alive members, relative to the origin.
+     */
+    private double maxY;
+
+    /**
+     * Whether the tracked bounds need to be recomputed.
+     */
+    private boolean boundsDirty = true;
+
+    // --Getters and Setters-- //
+
+    /**
+     * Gets the value of {@link #originX} field.
+     *
+     * @return The value of {@link #originX} field.
+     * @see #originX
+     */
+    public double getOriginX() {
+        return originX;
+    }
+
+    /**
+     * Gets the value of {@link #originY} field.
+     *
+     * @return The value of {@link #originY} field.
+     * @see #originY
+     */
+    public double getOriginY() {
+        return originY;
+    }
+
+    /**
+     * Gets a read-only view of the {@link #members}.
+     *
+     * @return A read-only view of the {@link #members}.
+     * @see #members
+     */
+    public Set<Enemy> getMembers() {
+        return membersView;
+    }
+
+    /**
+     * Checks whether this formation has no members.
+     *
+     * @return {@code true} if this formation has no members, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return members.isEmpty();
+    }
+
+    // --Methods-- //
+
+    /**
+     * Adds the given {@link Enemy} to this formation, keeping its absolute position.
+     *
+     * @param enemy The enemy to add.
+     */
+    public void add(final Enemy enemy) {
+        if (members.add(enemy)) {
+            enemy.setFormation(this);
+            include(enemy);
+        }
+    }
+
+    /**
+     * Removes the given {@link Enemy} from this formation, keeping its absolute position.
+     * The origin is reset once the formation is empty.
+     *
+     * @param enemy The enemy to remove.
+     */
+    public void remove(final Enemy enemy) {
+        if (members.remove(enemy)) {
+            exclude(enemy);
+            enemy.setFormation(null);
+            if (members.isEmpty()) {
+                originX = 0;
+                originY = 0;
+            }
+        }
+    }
+
+    /**
+     * Removes all members from this formation.
+     */
+    public void clear() {
+        for (final Enemy enemy : members) {
+            enemy.setFormation(null);
+        }
+        members.clear();
+        aliveMembers.clear();
+        aliveColumns.clear();
+        aliveRows.clear();
+        originX = 0;
+        originY = 0;
+        boundsDirty = true;
+    }
+
+    /**
+     * Moves the whole formation by the given delta.
+     *
+     * @param deltaX The deltaX.
+     * @param deltaY The deltaY.
+     */
+    public void translate(final double deltaX, final double deltaY) {
+        originX += deltaX;
+        originY += deltaY;
+    }
+
+    /**
+     * Updates the tracked bounds after the given member died or was revived.
+     *
+     * @param enemy The member whose alive state changed.
+     */
+    public void updateAliveState(final Enemy enemy) {
+        if (!members.contains(enemy)) {
+            return;
+        }
+        if (enemy.isAlive()) {
+            include(enemy);
+        } else {
+            exclude(enemy);
+        }
+    }
+
+    /**
+     * Marks the tracked bounds as dirty after a member was moved within the formation.
+     *
+     * @param enemy The member that was moved.
+     */
+    public void memberMoved(final Enemy enemy) {
+        boundsDirty = true;
+    }
+
+    /**
+     * Decrements the amount of alive members of the given column or row.
+     *
+     * @param counts The amounts of alive members by index.
+     * @param index  The index of the column or row.
+     * @return {@code true} if the column or row has no alive members left, {@code false} otherwise.
+     */
+    private static boolean decrement(final Map<Integer, Integer> counts, final int index) {
+        final Integer count = counts.get(index);
+        if (count == null || count <= 1) {
+            counts.remove(index);
+            return true;
+        }
+        counts.put(index, count - 1);
+        return false;
+    }
+
+    /**
+     * Grows the tracked bounds to contain the given member.
+     *
+     * @param enemy The member to contain.
+     */
+    private void grow(final Enemy enemy) {
+        minX = Math.min(minX, enemy.getX() - originX);
+        minY = Math.min(minY, enemy.getY() - originY);
+        maxX = Math.max(maxX, enemy.getX() - originX + enemy.getWidth());
+        maxY = Math.max(maxY, enemy.getY() - originY + enemy.getHeight());
+    }
+
+    /**
+     * Counts the given member as alive in its column and row and grows the tracked bounds to contain it, if it is alive.
+     *
+     * @param enemy The member to include.
+     */
+    private void include(final Enemy enemy) {
+        if (!enemy.isAlive() || !aliveMembers.add(enemy)) {
+            return;
+        }
+        aliveColumns.merge(enemy.getXIndex(), 1, Integer::sum);
+        aliveRows.merge(enemy.getYIndex(), 1, Integer::sum);
+        if (!boundsDirty) {
+            grow(enemy);
+        }
+    }
+
+    /**
+     * Stops counting the given member as alive and marks the tracked bounds as dirty if this leaves a column or row at one
+     * of their edges without alive members.
+     *
+     * @param enemy The member that is no longer alive or no longer part of the formation.
+     */
+    private void exclude(final Enemy enemy) {
+        if (!aliveMembers.remove(enemy)) {
+            return;
+        }
+        final boolean columnEmpty = decrement(aliveColumns, enemy.getXIndex());
+        final boolean rowEmpty = decrement(aliveRows, enemy.getYIndex());
+        if (boundsDirty || !columnEmpty && !rowEmpty) {
+            return;
+        }
+        final double x = enemy.getX() - originX;
+        final double y = enemy.getY() - originY;
+        if (columnEmpty && (x <= minX || x + enemy.getWidth() >= maxX)
+            || rowEmpty && (y <= minY || y + enemy.getHeight() >= maxY)) {
+            boundsDirty = true;
+        }
+    }
+
+    /**
+     * Recomputes the tracked bounds from all alive members if they are dirty.
+     */
+    private void recomputeBounds() {
+        if (!boundsDirty) {
+            return;
+        }
+        minX = Double.MAX_VALUE;
+        minY = Double.MAX_VALUE;
+        maxX = -Double.MAX_VALUE;
+        maxY = -Double.MAX_VALUE;
+        boundsDirty = false;
+        for (final Enemy enemy : members) {
+            if (enemy.isAlive()) {
+                grow(enemy);
+            }
+        }
+    }
+
+    /**
+     * Checks whether at least one member is alive.
+     *
+     * @return {@code true} if at least one member is alive, {@code false} otherwise.
+     */
+    public boolean hasAliveMembers() {
+        recomputeBounds();
+        return minX <= maxX;
+    }
+
+    /**
+     * Gets the smallest x-coordinate of all alive members.
+     *
+     * @return The smallest x-coordinate of all alive members.
+     */
+    public double getMinX() {
+        recomputeBounds();
+        return originX + minX;
+    }
+
+    /**
+     * Gets the smallest y-coordinate of all alive members.
+     *
+     * @return The smallest y-coordinate of all alive members.
+     */
+    public double getMinY() {
+        recomputeBounds();
+        return originY + minY;
+    }
+
+    /**
+     * Gets the largest x-coordinate of all alive members.
+     *
+     * @return The largest x-coordinate of all alive members.
+     */
+    public double getMaxX() {
+        recomputeBounds();
+        return originX + maxX;
+    }
+
+    /**
+     * Gets the largest y-coordinate of all alive members.
+     *
+     * @return The largest y-coordinate of all alive members.
+     */
+    public double getMaxY() {
+        recomputeBounds();
+        return originY + maxY;
+    }
+
+    /**
+     * Creates a BoundingBox around all alive members.
+     *
+     * @return The BoundingBox.
+     */
+    public Bounds getBounds() {
+        final double minX = getMinX();
+        final double minY = getMinY();
+        return new BoundingBox(minX, minY, getMaxX() - minX, getMaxY() - minY);
+    }
+}
@@ -0,0 +1,200 @@
+package h13.model.gameplay;
+
+import h13.model.gameplay.sprites.Sprite;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A picture of the game at the end of a simulation tick. It is filled by the simulation thread and read by the renderer
+ * without any locks.
+ * <br>
+ * Snapshots are buffers that are reused for later ticks: the {@link SpriteSnapshot} entries are kept and only overwritten,
+ * so {@linkplain #set(Collection, int, int, long, double, long, boolean) filling} a snapshot does not allocate once it has
+ * grown to the amount of sprites. The hand-off between the threads is done by
+ * {@link h13.controller.gamelogic.SimulationThread}, which ensures that a snapshot is never filled while it is read.
+ */
+public class GameSnapshot {
+
+    /**
+     * A read-only list of the first {@link #spriteCount} {@link #entries}.
+     */
+    private class SpriteView extends AbstractList<SpriteSnapshot> implements RandomAccess {
+
+        @Override
+        public SpriteSnapshot get(final int index) {
+            if (index < 0 || index >= spriteCount) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return entries.get(index);
+        }
+
+        @Override
+        public int size() {
+            return spriteCount;
+        }
+    }
+
+    // --Variables-- //
+
+    /**
+     * The reusable sprite entries. Only the first {@link #spriteCount} entries belong to the current tick.
+     */
+    private final List<SpriteSnapshot> entries = new ArrayList<>();
+
+    /**
+     * The amount of sprites of the current tick.
+     */
+    private int spriteCount;
+
+    /**
+     * A read-only view of the sprites of the current tick.
+     */
+    private final List<SpriteSnapshot> sprites = new SpriteView();
+
+    /**
+     * The score of the player.
+     */
+    private int score;
+
+    /**
+     * The remaining lives of the player.
+     */
+    private int health;
+
+    /**
+     * The number of the tick.
+     */
+    private long tick;
+
+    /**
+     * The duration of a tick in seconds.
+     */
+    private double tickDuration;
+
+    /**
+     * The {@link System#nanoTime()} at which the snapshot was published.
+     */
+    private long publishedAt;
+
+    /**
+     * Whether the game is lost.
+     */
+    private boolean gameOver;
+
+    // --Getters and Setters-- //
+
+    /**
+     * Gets a read-only view of the sprites, in no particular order.
+     *
+     * @return A read-only view of the sprites.
+     */
+    public List<SpriteSnapshot> getSprites() {
+        return sprites;
+    }
+
+    /**
+     * Gets the value of {@link #score} field.
+     *
+     * @return The value of {@link #score} field.
+     * @see #score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the value of {@link #health} field.
+     *
+     * @return The value of {@link #health} field.
+     * @see #health
+     */
+    public int getHealth() {
+        return health;
+    }
+
+    /**
+     * Gets the value of {@link #tick} field.
+     *
+     * @return The value of {@link #tick} field.
+     * @see #tick
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the value of {@link #tickDuration} field.
+     *
+     * @return The value of {@link #tickDuration} field.
+     * @see #tickDuration
+     */
+    public double getTickDuration() {
+        return tickDuration;
+    }
+
+    /**
+     * Gets the value of {@link #publishedAt} field.
+     *
+     * @return The value of {@link #publishedAt} field.
+     * @see #publishedAt
+     */
+    public long getPublishedAt() {
+        return publishedAt;
+    }
+
+    /**
+     * Gets the value of {@link #gameOver} field.
+     *
+     * @return The value of {@link #gameOver} field.
+     * @see #gameOver
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    // --Methods-- //
+
+    /**
+     * Overwrites this snapshot with the given state. Must only be called while no other thread reads the snapshot.
+     *
+     * @param sprites      The sprites, in no particular order.
+     * @param score        The score of the player.
+     * @param health       The remaining lives of the player.
+     * @param tick         The number of the tick.
+     * @param tickDuration The duration of a tick in seconds.
+     * @param publishedAt  The {@link System#nanoTime()} at which the snapshot was published.
+     * @param gameOver     Whether the game is lost.
+     */
+    public void set(final Collection<? extends Sprite> sprites, final int score, final int health, final long tick,
+                    final double tickDuration, final long publishedAt, final boolean gameOver) {
+        int index = 0;
+        for (final Sprite sprite : sprites) {
+            if (index == entries.size()) {
+                entries.add(new SpriteSnapshot());
+            }
+            entries.get(index++).set(sprite);
+        }
+        spriteCount = index;
+        this.score = score;
+        this.health = health;
+        this.tick = tick;
+        this.tickDuration = tickDuration;
+        this.publishedAt = publishedAt;
+        this.gameOver = gameOver;
+    }
+
+    /**
+     * Gets the fraction of the next tick that has passed at the given time. The renderer interpolates between the positions
+     * at the start and the end of this snapshot's tick with it, so it is always one tick behind the simulation.
+     *
+     * @param now The current {@link System#nanoTime()}.
+     * @return The interpolation factor, between {@code 0} and {@code 1}.
+     */
+    public double getInterpolationAlpha(final long now) {
+        return Math.max(0, Math.min(1, (now - publishedAt) / 1e9 / tickDuration));
+    }
+}
@@ -1,11 +1,17 @@
 package h13.model.gameplay;
 
+import h13.model.gameplay.sprites.Bullet;
 import h13.model.gameplay.sprites.Enemy;
+import h13.model.gameplay.sprites.Player;
 import h13.model.gameplay.sprites.Sprite;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.AbstractSet;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * The {@link GameState} class is responsible for keeping track of the current state of the game.
@@ -17,21 +23,83 @@ public class GameState {
      * The {@linkplain Sprite Sprites} that are present in the game.
      * This is a set because there is no guarantee that the sprites are not duplicated.
      * This is not a problem because the set is used to remove duplicates.
+     * Adding and removing sprites keeps the typed indexes ({@link #enemies}, {@link #aliveEnemies}, {@link #bullets} and
+     * {@link #player}) up to date.
      *
      * @see #getSprites()
      */
-    private final Set<Sprite> sprites = new HashSet<>();
+    private final Set<Sprite> sprites = new IndexedSpriteSet();
+
+    /**
+     * All {@linkplain Enemy enemies} in {@link #sprites}.
+     */
+    private final Set<Enemy> enemies = new HashSet<>();
+
+    /**
+     * All alive {@linkplain Enemy enemies} in {@link #sprites}.
+     */
+    private final Set<Enemy> aliveEnemies = new HashSet<>();
+
+    /**
+     * All {@linkplain Bullet bullets} in {@link #sprites}.
+     */
+    private final Set<Bullet> bullets = new HashSet<>();
+
+    /**
+     * Read-only view of {@link #enemies}.
+     */
+    private final Set<Enemy> enemiesView = Collections.unmodifiableSet(enemies);
+
+    /**
+     * Read-only view of {@link #aliveEnemies}.
+     */
+    private final Set<Enemy> aliveEnemiesView = Collections.unmodifiableSet(aliveEnemies);
+
+    /**
+     * Read-only view of {@link #bullets}.
+     */
+    private final Set<Bullet> bulletsView = Collections.unmodifiableSet(bullets);
+
+    /**
+     * The {@link Player} in {@link #sprites}, if any.
+     */
+    private @Nullable Player player;
 
     /**
      * The {@linkplain Sprite Sprites} that should be added in the next update iteration.
      */
     private final Set<Sprite> toAdd = new HashSet<>();
 
+    /**
+     * The {@link Formation} all {@linkplain Enemy enemies} in {@link #sprites} are part of.
+     */
+    private final Formation formation = new Formation();
+
     /**
      * @see EnemyMovement
      */
     private final EnemyMovement enemyMovement = new EnemyMovement(this);
 
+    /**
+     * @see CollisionGrid
+     */
+    private final CollisionGrid collisionGrid = new CollisionGrid();
+
+    /**
+     * @see BulletPool
+     */
+    private final BulletPool bulletPool = new BulletPool(this);
+
+    /**
+     * @see TimerWheel
+     */
+    private final TimerWheel timerWheel = new TimerWheel();
+
+    /**
+     * @see EnemyShooting
+     */
+    private final EnemyShooting enemyShooting = new EnemyShooting(this);
+
 
     // --Getters and Setters-- //
 
@@ -57,27 +125,62 @@ public class GameState {
 
     /**
      * Gets a {@link Set} of all {@linkplain Enemy enemies}.
+     * The returned set is a read-only live view.
      *
      * @return A {@link Set} of all {@linkplain Enemy enemies}.
      */
     public Set<Enemy> getEnemies() {
-        return getSprites().stream()
-            .filter(Enemy.class::isInstance)
-            .map(Enemy.class::cast)
-            .collect(Collectors.toSet());
+        return enemiesView;
     }
 
     /**
      * Gets all the {@link Enemy}s where {@link Enemy#isAlive()} returns true.
+     * The returned set is a read-only live view.
      *
      * @return The {@link Enemy}s where {@link Enemy#isAlive()} returns true.
      * @see Enemy#isAlive()
      */
     public Set<Enemy> getAliveEnemies() {
-        return getSprites().stream()
-            .filter(s -> s instanceof Enemy e && e.isAlive())
-            .map(Enemy.class::cast)
-            .collect(Collectors.toSet());
+        return aliveEnemiesView;
+    }
+
+    /**
+     * Gets the amount of {@link Enemy}s where {@link Enemy#isAlive()} returns true.
+     *
+     * @return The amount of alive {@link Enemy}s.
+     */
+    public int getAliveEnemyCount() {
+        return aliveEnemies.size();
+    }
+
+    /**
+     * Gets a {@link Set} of all {@linkplain Bullet bullets}.
+     * The returned set is a read-only live view.
+     *
+     * @return A {@link Set} of all {@linkplain Bullet bullets}.
+     */
+    public Set<Bullet> getBullets() {
+        return bulletsView;
+    }
+
+    /**
+     * Gets the value of {@link #player} field.
+     *
+     * @return The value of {@link #player} field.
+     * @see #player
+     */
+    public @Nullable Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets the value of {@link #formation} field.
+     *
+     * @return The value of {@link #formation} field.
+     * @see #formation
+     */
+    public Formation getFormation() {
+        return formation;
     }
 
     /**
@@ -89,4 +192,178 @@ public class GameState {
     public EnemyMovement getEnemyMovement() {
         return enemyMovement;
     }
+
+    /**
+     * Gets the value of {@link #collisionGrid} field.
+     *
+     * @return The value of {@link #collisionGrid} field.
+     * @see #collisionGrid
+     */
+    public CollisionGrid getCollisionGrid() {
+        return collisionGrid;
+    }
+
+    /**
+     * Gets the value of {@link #bulletPool} field.
+     *
+     * @return The value of {@link #bulletPool} field.
+     * @see #bulletPool
+     */
+    public BulletPool getBulletPool() {
+        return bulletPool;
+    }
+
+    /**
+     * Gets the value of {@link #timerWheel} field.
+     *
+     * @return The value of {@link #timerWheel} field.
+     * @see #timerWheel
+     */
+    public TimerWheel getTimerWheel() {
+        return timerWheel;
+    }
+
+    /**
+     * Gets the value of {@link #enemyShooting} field.
+     *
+     * @return The value of {@link #enemyShooting} field.
+     * @see #enemyShooting
+     */
+    public EnemyShooting getEnemyShooting() {
+        return enemyShooting;
+    }
+
+    // --Indexing-- //
+
+    /**
+     * Updates the typed indexes after the given {@link Sprite} died or was revived.
+     * Called by {@link Sprite} whenever its health crosses zero.
+     *
+     * @param sprite The sprite whose alive state changed.
+     */
+    public void updateAliveState(final Sprite sprite) {
+        if (sprite instanceof Enemy enemy && enemies.contains(enemy)) {
+            if (enemy.isAlive()) {
+                aliveEnemies.add(enemy);
+            } else {
+                aliveEnemies.remove(enemy);
+            }
+            formation.updateAliveState(enemy);
+            enemyShooting.updateAliveState(enemy);
+        }
+    }
+
+    /**
+     * Adds the given {@link Sprite} to the typed indexes.
+     *
+     * @param sprite The sprite that was added to {@link #sprites}.
+     */
+    private void index(final Sprite sprite) {
+        if (sprite instanceof Enemy enemy) {
+            enemies.add(enemy);
+            if (enemy.isAlive()) {
+                aliveEnemies.add(enemy);
+            }
+            formation.add(enemy);
+            enemyShooting.add(enemy);
+        } else if (sprite instanceof Bullet bullet) {
+            bullets.add(bullet);
+        } else if (sprite instanceof Player p) {
+            player = p;
+        }
+    }
+
+    /**
+     * Removes the given {@link Sprite} from the typed indexes.
+     *
+     * @param sprite The sprite that was removed from {@link #sprites}.
+     */
+    private void unindex(final Sprite sprite) {
+        if (sprite instanceof Enemy enemy) {
+            enemies.remove(enemy);
+            aliveEnemies.remove(enemy);
+            formation.remove(enemy);
+            enemyShooting.remove(enemy);
+        } else if (sprite instanceof Bullet bullet) {
+            bullets.remove(bullet);
+            bulletPool.release(bullet);
+        } else if (sprite == player) {
+            player = null;
+        }
+    }
+
+    /**
+     * A {@link Set} of {@linkplain Sprite sprites} that keeps the typed indexes of the {@link GameState} up to date.
+     */
+    private class IndexedSpriteSet extends AbstractSet<Sprite> {
+
+        /**
+         * The backing set.
+         */
+        private final Set<Sprite> delegate = new HashSet<>();
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public boolean contains(final Object o) {
+            return delegate.contains(o);
+        }
+
+        @Override
+        public boolean add(final Sprite sprite) {
+            if (!delegate.add(sprite)) {
+                return false;
+            }
+            index(sprite);
+            return true;
+        }
+
+        @Override
+        public boolean remove(final Object o) {
+            if (!delegate.remove(o)) {
+                return false;
+            }
+            unindex((Sprite) o);
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            delegate.clear();
+            formation.clear();
+            enemyShooting.clear();
+            enemies.clear();
+            aliveEnemies.clear();
+            bullets.clear();
+            bulletPool.releaseAll();
+            player = null;
+        }
+
+        @Override
+        public @NotNull Iterator<Sprite> iterator() {
+            final Iterator<Sprite> iterator = delegate.iterator();
+            return new Iterator<>() {
+                private @Nullable Sprite current;
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Sprite next() {
+                    return current = iterator.next();
+                }
+
+                @Override
+                public void remove() {
+                    iterator.remove();
+                    unindex(current);
+                }
+            };
+        }
+    }
 }
@@ -0,0 +1,103 @@
+package h13.model.gameplay;
+
+import h13.shared.TextureAtlas;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An interface that defines everything a {@link h13.view.gui.RenderBackend} needs to know to draw an object.
+ * It is implemented by the live {@linkplain h13.model.gameplay.sprites.Sprite sprites} as well as by the immutable
+ * {@linkplain SpriteSnapshot snapshots} that are published by the simulation thread.
+ */
+public interface Renderable {
+
+    /**
+     * The render layer of bullets, which are drawn first.
+     */
+    int LAYER_BULLETS = 0;
+
+    /**
+     * The render layer of enemies.
+     */
+    int LAYER_ENEMIES = 1;
+
+    /**
+     * The render layer of the player.
+     */
+    int LAYER_PLAYER = 2;
+
+    /**
+     * The render layer of all other objects, which are drawn last.
+     */
+    int LAYER_OTHERS = 3;
+
+    /**
+     * Gets the x-coordinate interpolated between the start and the end of the current simulation tick.
+     *
+     * @param alpha The fraction of the tick, between {@code 0} (start) and {@code 1} (end).
+     * @return The interpolated x-coordinate.
+     */
+    double getInterpolatedX(final double alpha);
+
+    /**
+     * Gets the y-coordinate interpolated between the start and the end of the current simulation tick.
+     *
+     * @param alpha The fraction of the tick, between {@code 0} (start) and {@code 1} (end).
+     * @return The interpolated y-coordinate.
+     */
+    double getInterpolatedY(final double alpha);
+
+    /**
+     * Gets the width.
+     *
+     * @return The width.
+     */
+    double getWidth();
+
+    /**
+     * Gets the height.
+     *
+     * @return The height.
+     */
+    double getHeight();
+
+    /**
+     * Gets the color that is used if there is no texture.
+     *
+     * @return The color.
+     */
+    Color getColor();
+
+    /**
+     * Gets the texture.
+     *
+     * @return The texture, or {@code null} if the object is drawn with its color.
+     */
+    @Nullable Image getTexture();
+
+    /**
+     * Gets the region of the texture in the sprite atlas.
+     *
+     * @return The region, or {@code null} if the texture is not part of the atlas.
+     */
+    @Nullable TextureAtlas.Region getTextureRegion();
+
+    /**
+     * Gets the layer the object is drawn in, from {@link #LAYER_BULLETS} (bottom) to {@link #LAYER_OTHERS} (top).
+     *
+     * @return The render layer.
+     */
+    default int getRenderLayer() {
+        return LAYER_OTHERS;
+    }
+
+    /**
+     * Gets an object that identifies the drawn object across frames, e.g. to track where it was drawn before.
+     *
+     * @return The identity of the drawn object.
+     */
+    default Object getRenderKey() {
+        return this;
+    }
+}
@@ -0,0 +1,151 @@
+package h13.model.gameplay;
+
+import h13.model.gameplay.sprites.Sprite;
+import h13.shared.TextureAtlas;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A copy of everything that is needed to draw a {@link Sprite} at the end of a simulation tick.
+ * <br>
+ * Snapshots are reused by the buffers of a {@link GameSnapshot}, so taking a snapshot does not allocate. A snapshot must not
+ * be {@linkplain #set(Sprite) changed} while it is read by the renderer.
+ */
+public class SpriteSnapshot implements Renderable {
+
+    // --Variables-- //
+
+    /**
+     * The sprite the snapshot was taken of. It is only used to identify the sprite across frames.
+     */
+    private Object renderKey = this;
+
+    /**
+     * The x-coordinate at the start of the tick.
+     */
+    private double previousX;
+
+    /**
+     * The y-coordinate at the start of the tick.
+     */
+    private double previousY;
+
+    /**
+     * The x-coordinate at the end of the tick.
+     */
+    private double x;
+
+    /**
+     * The y-coordinate at the end of the tick.
+     */
+    private double y;
+
+    /**
+     * The width.
+     */
+    private double width;
+
+    /**
+     * The height.
+     */
+    private double height;
+
+    /**
+     * The color.
+     */
+    private Color color = Color.TRANSPARENT;
+
+    /**
+     * The texture, if any.
+     */
+    private @Nullable Image texture;
+
+    /**
+     * The region of the texture in the sprite atlas, if any.
+     */
+    private @Nullable TextureAtlas.Region textureRegion;
+
+    /**
+     * The render layer.
+     */
+    private int renderLayer;
+
+    // --Methods-- //
+
+    /**
+     * Takes a new snapshot of the given sprite.
+     *
+     * @param sprite The sprite.
+     * @return The snapshot.
+     */
+    public static SpriteSnapshot of(final Sprite sprite) {
+        final SpriteSnapshot snapshot = new SpriteSnapshot();
+        snapshot.set(sprite);
+        return snapshot;
+    }
+
+    /**
+     * Overwrites this snapshot with the current state of the given sprite.
+     *
+     * @param sprite The sprite.
+     */
+    public void set(final Sprite sprite) {
+        renderKey = sprite;
+        previousX = sprite.getInterpolatedX(0);
+        previousY = sprite.getInterpolatedY(0);
+        x = sprite.getX();
+        y = sprite.getY();
+        width = sprite.getWidth();
+        height = sprite.getHeight();
+        color = sprite.getColor();
+        texture = sprite.getTexture();
+        textureRegion = sprite.getTextureRegion();
+        renderLayer = sprite.getRenderLayer();
+    }
+
+    @Override
+    public double getInterpolatedX(final double alpha) {
+        return alpha >= 1 ? x : previousX + (x - previousX) * alpha;
+    }
+
+    @Override
+    public double getInterpolatedY(final double alpha) {
+        return alpha >= 1 ? y : previousY + (y - previousY) * alpha;
+    }
+
+    @Override
+    public double getWidth() {
+        return width;
+    }
+
+    @Override
+    public double getHeight() {
+        return height;
+    }
+
+    @Override
+    public Color getColor() {
+        return color;
+    }
+
+    @Override
+    public @Nullable Image getTexture() {
+        return texture;
+    }
+
+    @Override
+    public @Nullable TextureAtlas.Region getTextureRegion() {
+        return textureRegion;
+    }
+
+    @Override
+    public int getRenderLayer() {
+        return renderLayer;
+    }
+
+    @Override
+    public Object getRenderKey() {
+        return renderKey;
+    }
+}
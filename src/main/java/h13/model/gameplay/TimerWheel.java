@@ -0,0 +1,270 @@
+package h13.model.gameplay;
+
+import org.jetbrains.annotations.Nullable;
+
+import static h13.controller.GameConstants.SIMULATION_TICK_RATE;
+import static h13.controller.GameConstants.TIMER_WHEEL_SLOTS;
+
+/**
+ * A {@link TimerWheel} is a hashed timing wheel that runs timed gameplay events (e.g. enemy shots, power-up expiries or
+ * respawns) at exact simulation ticks.
+ * <br>
+ * Every {@link Timer} is stored in the slot {@code deadline % slots}, so scheduling and cancelling are constant-time and
+ * {@link #advance()} only visits the timers of a single slot. Timers are reusable, rescheduling a timer does not allocate.
+ */
+public class TimerWheel {
+
+    /**
+     * A {@link Timer} is an event that can be scheduled on a {@link TimerWheel}.
+     * The timers of a slot are kept in an intrusive doubly linked list.
+     */
+    public static class Timer {
+
+        // --Variables-- //
+
+        /**
+         * The action that is run when the timer is due.
+         */
+        private final Runnable action;
+
+        /**
+         * The tick at which the timer is due.
+         */
+        private long deadline;
+
+        /**
+         * The slot the timer is stored in, or {@code -1} if it is not scheduled.
+         */
+        private int slot = -1;
+
+        /**
+         * The previous timer in the same slot.
+         */
+        private @Nullable Timer previous;
+
+        /**
+         * The next timer in the same slot.
+         */
+        private @Nullable Timer next;
+
+        // --Constructors-- //
+
+        /**
+         * Creates a new, unscheduled {@link Timer}.
+         *
+         * @param action The action that is run when the timer is due.
+         */
+        public Timer(final Runnable action) {
+            this.action = action;
+        }
+
+        // --Getters and Setters-- //
+
+        /**
+         * Gets the value of {@link #deadline} field.
+         *
+         * @return The value of {@link #deadline} field.
+         * @see #deadline
+         */
+        public long getDeadline() {
+            return deadline;
+        }
+
+        /**
+         * Checks whether the timer is currently scheduled.
+         *
+         * @return {@code true} if the timer is scheduled, {@code false} otherwise.
+         */
+        public boolean isScheduled() {
+            return slot >= 0;
+        }
+    }
+
+    // --Variables-- //
+
+    /**
+     * The heads of the timer lists of all slots.
+     */
+    private final @Nullable Timer[] slots;
+
+    /**
+     * The bit mask that maps a tick to its slot.
+     */
+    private final int mask;
+
+    /**
+     * The duration of a single tick in seconds.
+     */
+    private double tickDuration = 1 / SIMULATION_TICK_RATE;
+
+    /**
+     * The current tick.
+     */
+    private long currentTick = 0;
+
+    /**
+     * The amount of scheduled timers.
+     */
+    private int size = 0;
+
+    // --Constructors-- //
+
+    /**
+     * Creates a new {@link TimerWheel} with {@link h13.controller.GameConstants#TIMER_WHEEL_SLOTS} slots.
+     */
+    public TimerWheel() {
+        this(TIMER_WHEEL_SLOTS);
+    }
+
+    /**
+     * Creates a new {@link TimerWheel}.
+     *
+     * @param slots The minimum amount of slots. It is rounded up to the next power of two.
+     */
+    public TimerWheel(final int slots) {
+        final int capacity = Integer.highestOneBit(Math.max(1, slots - 1)) << 1;
+        this.slots = new Timer[capacity];
+        this.mask = capacity - 1;
+    }
+
+    // --Getters and Setters-- //
+
+    /**
+     * Gets the value of {@link #tickDuration} field.
+     *
+     * @return The value of {@link #tickDuration} field.
+     * @see #tickDuration
+     */
+    public double getTickDuration() {
+        return tickDuration;
+    }
+
+    /**
+     * Sets the value of {@link #tickDuration} field to the given value.
+     *
+     * @param tickDuration The new value of {@link #tickDuration} field.
+     * @see #tickDuration
+     */
+    public void setTickDuration(final double tickDuration) {
+        this.tickDuration = tickDuration;
+    }
+
+    /**
+     * Gets the value of {@link #currentTick} field.
+     *
+     * @return The value of {@link #currentTick} field.
+     * @see #currentTick
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Gets the amount of scheduled timers.
+     *
+     * @return The amount of scheduled timers.
+     */
+    public int size() {
+        return size;
+    }
+
+    // --Utility Methods-- //
+
+    /**
+     * Converts the given duration to a whole amount of ticks, rounding up.
+     *
+     * @param seconds The duration in seconds.
+     * @return The amount of ticks.
+     */
+    public long toTicks(final double seconds) {
+        return (long) Math.ceil(seconds / tickDuration);
+    }
+
+    // --Methods-- //
+
+    /**
+     * Schedules the given timer to be due after the given amount of seconds. A scheduled timer is rescheduled.
+     *
+     * @param timer   The timer to schedule.
+     * @param seconds The delay in seconds.
+     */
+    public void schedule(final Timer timer, final double seconds) {
+        scheduleTicks(timer, toTicks(seconds));
+    }
+
+    /**
+     * Schedules the given timer to be due after the given amount of ticks. A scheduled timer is rescheduled.
+     * Timers are due at the next tick at the earliest.
+     *
+     * @param timer The timer to schedule.
+     * @param ticks The delay in ticks.
+     */
+    public void scheduleTicks(final Timer timer, final long ticks) {
+        cancel(timer);
+        timer.deadline = currentTick + Math.max(1, ticks);
+        timer.slot = (int) (timer.deadline & mask);
+        timer.next = slots[timer.slot];
+        if (timer.next != null) {
+            timer.next.previous = timer;
+        }
+        slots[timer.slot] = timer;
+        size++;
+    }
+
+    /**
+     * Cancels the given timer. Does nothing if it is not scheduled.
+     *
+     * @param timer The timer to cancel.
+     */
+    public void cancel(final Timer timer) {
+        if (!timer.isScheduled()) {
+            return;
+        }
+        if (timer.previous != null) {
+            timer.previous.next = timer.next;
+        } else {
+            slots[timer.slot] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.previous = timer.previous;
+        }
+        timer.previous = null;
+        timer.next = null;
+        timer.slot = -1;
+        size--;
+    }
+
+    /**
+     * Cancels all timers and resets the wheel to tick zero.
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length; i++) {
+            while (slots[i] != null) {
+                cancel(slots[i]);
+            }
+        }
+        currentTick = 0;
+    }
+
+    /**
+     * Advances the wheel by a single tick and runs all timers that are due.
+     * Only the timers in the slot of the new tick are visited. Actions may schedule or cancel any timer.
+     */
+    public void advance() {
+        currentTick++;
+        final int slot = (int) (currentTick & mask);
+        Timer timer = slots[slot];
+        while (timer != null) {
+            Timer next = timer.next;
+            if (timer.deadline <= currentTick) {
+                cancel(timer);
+                timer.action.run();
+                // the action may have cancelled or moved the next timer
+                if (next != null && next.slot != slot) {
+                    next = slots[slot];
+                }
+            }
+            timer = next;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package h13.model.gameplay.sprites;
 
 import h13.controller.ApplicationSettings;
+import h13.model.gameplay.BulletPool;
 import h13.model.gameplay.Direction;
 import h13.model.gameplay.GameState;
 import javafx.scene.paint.Color;
@@ -99,6 +100,8 @@ public class BattleShip extends Sprite {
 
     /**
      * Shoots a {@link Bullet} from the Center of the Ship in the given {@link Direction}.
+     * The Bullet is taken from the {@link h13.model.gameplay.BulletPool} of the game state, which may drop the shot if too
+     * many bullets are live.
      *
      * @param direction The {@link Direction} to shoot the {@link Bullet} towards.
      */
@@ -110,7 +113,13 @@ public class BattleShip extends Sprite {
         double bulletX = getBounds().getCenterX() - BULLET_WIDTH / 2.0;
         double bulletY = getBounds().getCenterY() - BULLET_HEIGHT / 2.0;
 
-        Bullet bullet = new Bullet(bulletX, bulletY, getGameState(),this, direction);
+        final BulletPool bulletPool = getGameState().getBulletPool();
+        Bullet bullet = bulletPool != null
+            ? bulletPool.acquire(bulletX, bulletY, this, direction)
+            : new Bullet(bulletX, bulletY, getGameState(), this, direction);
+        if (bullet == null) {
+            return;
+        }
         setBullet(bullet);
         getGameState().getToAdd().add(bullet);
     }
@@ -3,7 +3,6 @@ package h13.model.gameplay.sprites;
 import h13.model.gameplay.Direction;
 import h13.model.gameplay.GameState;
 import h13.shared.Utils;
-import javafx.geometry.Bounds;
 import javafx.scene.paint.Color;
 
 import java.util.HashSet;
@@ -25,7 +24,7 @@ public class Bullet extends Sprite {
     /**
      * The owner of the Bullet.
      */
-    private final BattleShip owner;
+    private BattleShip owner;
 
     /**
      * The set of BattleShips that have been damaged by the Bullet.
@@ -51,6 +50,25 @@ public class Bullet extends Sprite {
 
     // --Getters and Setters-- //
 
+    /**
+     * Re-initializes a recycled Bullet, as if it had just been created with the given parameters.
+     *
+     * @param x         The new x-coordinate of the Bullet.
+     * @param y         The new y-coordinate of the Bullet.
+     * @param owner     The new owner of the Bullet.
+     * @param direction The direction the Bullet is travelling towards.
+     * @see h13.model.gameplay.BulletPool
+     */
+    public void reset(final double x, final double y, final BattleShip owner, final Direction direction) {
+        this.owner = owner;
+        hits.clear();
+        setX(x);
+        setY(y);
+        clearPreviousPosition();
+        setDirection(direction);
+        setHealth(1);
+    }
+
     /**
      * Gets the owner of the Bullet.
      *
@@ -79,11 +97,16 @@ public class Bullet extends Sprite {
      */
     public boolean canHit(final BattleShip other) {
         return other.isEnemy(getOwner()) &&
-            getBounds().intersects(other.getBounds()) &&
+            Utils.intersects(getX(), getY(), getWidth(), getHeight(), other.getX(), other.getY(), other.getWidth(), other.getHeight()) &&
             !hits.contains(other) &&
             other.isAlive();
     }
 
+    @Override
+    public int getRenderLayer() {
+        return LAYER_BULLETS;
+    }
+
     /**
      * Hits the given BattleShip by damaging both the Bullet and the BattleShip. Also saves the BattleShip in the set of hits.
      *
@@ -99,8 +122,9 @@ public class Bullet extends Sprite {
     public void update(final double elapsedTime) {
         super.update(elapsedTime);
 
-        Bounds newBounds = Utils.getNextPosition(getBounds(), getVelocity(), getDirection(), elapsedTime);
-        if(!ORIGINAL_GAME_BOUNDS.contains(newBounds)) {
+        final double nextX = Utils.getNextX(getX(), getVelocity(), getDirection(), elapsedTime);
+        final double nextY = Utils.getNextY(getY(), getVelocity(), getDirection(), elapsedTime);
+        if(!ORIGINAL_GAME_BOUNDS.contains(nextX, nextY, getWidth(), getHeight())) {
             die();
         }
     }
@@ -2,11 +2,16 @@ package h13.model.gameplay.sprites;
 
 import h13.controller.ApplicationSettings;
 import h13.model.gameplay.Direction;
+import h13.model.gameplay.EnemyShooting;
+import h13.model.gameplay.Formation;
 import h13.model.gameplay.GameState;
 import javafx.scene.paint.Color;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Stack;
 
+import static h13.controller.GameConstants.ENEMY_SHOOTING_REFERENCE_FRAME_RATE;
+
 /**
  * An {@link Enemy} is a {@link BattleShip} that is moved by the {@link h13.controller.gamelogic.EnemyController} and shoots downwards.
  *
@@ -30,6 +35,12 @@ public class Enemy extends BattleShip {
      */
     private final int pointsWorth;
 
+    /**
+     * The {@link Formation} the enemy is part of. If set, the coordinates of the enemy are stored relative to the
+     * formation's origin.
+     */
+    private @Nullable Formation formation;
+
     // --Constructors-- //
 
     /**
@@ -83,6 +94,72 @@ public class Enemy extends BattleShip {
         return pointsWorth;
     }
 
+    /**
+     * Gets the {@link Formation} the enemy is part of.
+     *
+     * @return The {@link Formation} the enemy is part of, or {@code null} if it moves on its own.
+     * @see #formation
+     */
+    public @Nullable Formation getFormation() {
+        return formation;
+    }
+
+    /**
+     * Sets the {@link Formation} the enemy is part of, keeping its absolute position.
+     * Use {@link Formation#add(Enemy)} and {@link Formation#remove(Enemy)} instead of calling this directly.
+     *
+     * @param formation The new {@link Formation}, or {@code null} to detach the enemy.
+     * @see #formation
+     */
+    public void setFormation(final @Nullable Formation formation) {
+        final double x = getX();
+        final double y = getY();
+        this.formation = formation;
+        super.setX(formation == null ? x : x - formation.getOriginX());
+        super.setY(formation == null ? y : y - formation.getOriginY());
+    }
+
+    @Override
+    public double getX() {
+        return formation == null ? super.getX() : formation.getOriginX() + super.getX();
+    }
+
+    @Override
+    public void setX(final double x) {
+        if (formation == null) {
+            super.setX(x);
+            return;
+        }
+        final double relativeX = x - formation.getOriginX();
+        if (relativeX != super.getX()) {
+            super.setX(relativeX);
+            formation.memberMoved(this);
+        }
+    }
+
+    @Override
+    public double getY() {
+        return formation == null ? super.getY() : formation.getOriginY() + super.getY();
+    }
+
+    @Override
+    public void setY(final double y) {
+        if (formation == null) {
+            super.setY(y);
+            return;
+        }
+        final double relativeY = y - formation.getOriginY();
+        if (relativeY != super.getY()) {
+            super.setY(relativeY);
+            formation.memberMoved(this);
+        }
+    }
+
+    @Override
+    public int getRenderLayer() {
+        return LAYER_ENEMIES;
+    }
+
     // --Utility Methods-- //
 
     /**
@@ -97,11 +174,23 @@ public class Enemy extends BattleShip {
     // --update-- //
     @Override
     public void update(final double elapsedTime) {
-        super.update(elapsedTime);
+        // enemies in a formation are moved by the EnemyMovement
+        if (formation == null) {
+            super.update(elapsedTime);
+        }
+
+        // enemies in a game state are shot by the EnemyShooting
+        final EnemyShooting enemyShooting = getGameState().getEnemyShooting();
+        if (enemyShooting != null && enemyShooting.isManaged(this)) {
+            return;
+        }
 
         totalTime += elapsedTime;
         if(totalTime * 1000 > ApplicationSettings.enemyShootingDelayProperty().get()) {
-            if(Math.random() <= ApplicationSettings.enemyShootingProbabilityProperty().get()) {
+            // the probability is per frame at the reference frame rate, scale it to the elapsed time
+            final double probability = 1 - Math.pow(1 - ApplicationSettings.enemyShootingProbabilityProperty().get(),
+                elapsedTime * ENEMY_SHOOTING_REFERENCE_FRAME_RATE);
+            if(Math.random() <= probability) {
                 shoot();
                 totalTime = 0.0;
             }
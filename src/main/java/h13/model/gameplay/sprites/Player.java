@@ -114,6 +114,11 @@ public class Player extends BattleShip {
         this.keepShooting = keepShooting;
     }
 
+    @Override
+    public int getRenderLayer() {
+        return LAYER_PLAYER;
+    }
+
     // --movement-- //
 
     @Override
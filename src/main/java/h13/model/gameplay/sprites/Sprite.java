@@ -3,8 +3,12 @@ package h13.model.gameplay.sprites;
 import h13.controller.ApplicationSettings;
 import h13.model.gameplay.Direction;
 import h13.model.gameplay.GameState;
+import h13.model.gameplay.Renderable;
 import h13.model.gameplay.Updatable;
+import h13.shared.AssetCache;
+import h13.shared.TextureAtlas;
 import h13.shared.Utils;
+import h13.shared.jfr.TextureLoadEvent;
 import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
 import javafx.scene.image.Image;
@@ -15,7 +19,7 @@ import org.jetbrains.annotations.Nullable;
 /**
  * A {@link Sprite} is a game object that can be placed on the {@link h13.view.gui.GameBoard}.
  */
-public abstract class Sprite implements Updatable {
+public abstract class Sprite implements Updatable, Renderable {
 
     // --Variables-- //
 
@@ -64,11 +68,32 @@ public abstract class Sprite implements Updatable {
      */
     private @Nullable Image texture;
 
+    /**
+     * The region of the {@link #texture} in the sprite atlas, or {@code null} if the texture is not part of it.
+     */
+    private @Nullable TextureAtlas.Region textureRegion;
+
     /**
      * The {@link GameState} that stores all models.
      */
     private final GameState gameState;
 
+    /**
+     * The x-coordinate of the sprite at the start of the current simulation tick.
+     */
+    private double previousX;
+
+    /**
+     * The y-coordinate of the sprite at the start of the current simulation tick.
+     */
+    private double previousY;
+
+    /**
+     * Whether {@link #previousX} and {@link #previousY} are set. Sprites that were created or reset during the current tick
+     * have no previous position yet.
+     */
+    private boolean previousPositionSet;
+
     // --Constructors-- //
 
     /**
@@ -142,6 +167,7 @@ public abstract class Sprite implements Updatable {
      * @return the value of the {@link #width} field.
      * @see #width
      */
+    @Override
     public double getWidth() {
         return width;
     }
@@ -152,6 +178,7 @@ public abstract class Sprite implements Updatable {
      * @return the value of the {@link #height} field.
      * @see #height
      */
+    @Override
     public double getHeight() {
         return height;
     }
@@ -183,7 +210,9 @@ public abstract class Sprite implements Updatable {
      * @see #health
      */
     public void setHealth(final int health) {
+        final boolean wasAlive = isAlive();
         this.health = health;
+        onHealthChanged(wasAlive);
     }
 
     /**
@@ -231,6 +260,7 @@ public abstract class Sprite implements Updatable {
      * @return the value of the {@link #color} field.
      * @see #color
      */
+    @Override
     public Color getColor() {
         return color;
     }
@@ -241,6 +271,7 @@ public abstract class Sprite implements Updatable {
      * @return the value of the {@link #texture} field.
      * @see #texture
      */
+    @Override
     public @Nullable Image getTexture() {
         return texture;
     }
@@ -253,10 +284,24 @@ public abstract class Sprite implements Updatable {
      */
     public void setTexture(final Image texture) {
         this.texture = texture;
+        this.textureRegion = null;
+    }
+
+    /**
+     * Gets the value of the {@link #textureRegion} field.
+     *
+     * @return the value of the {@link #textureRegion} field.
+     * @see #textureRegion
+     */
+    @Override
+    public @Nullable TextureAtlas.Region getTextureRegion() {
+        return textureRegion;
     }
 
     /**
      * Loads the texture of the sprite from the given path and sets it to the {@link #texture} field.
+     * The decoded image is shared with all other sprites using the same path. If the texture is part of the
+     * {@linkplain AssetCache#getSpriteAtlas() sprite atlas}, its region is set to the {@link #textureRegion} field.
      *
      * @param path the path to the texture.
      */
@@ -264,12 +309,23 @@ public abstract class Sprite implements Updatable {
         if (!ApplicationSettings.loadTexturesProperty().get()) {
             return;
         }
+        final TextureLoadEvent event = new TextureLoadEvent();
+        event.begin();
         try {
-            texture = new Image(path);
+            texture = AssetCache.getImage(path);
+            textureRegion = AssetCache.getAtlasRegion(path);
         } catch (final Exception e) {
             System.out.println("Failed to load texture: " + path);
             e.printStackTrace();
         }
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = path;
+            event.sprite = getClass().getSimpleName();
+            event.inAtlas = textureRegion != null;
+            event.loaded = texture != null;
+            event.commit();
+        }
     }
 
     /**
@@ -338,7 +394,9 @@ public abstract class Sprite implements Updatable {
      * @param amount the amount to damage the sprite by.
      */
     public void damage(final int amount) {
+        final boolean wasAlive = isAlive();
         health -= amount;
+        onHealthChanged(wasAlive);
     }
 
     /**
@@ -354,15 +412,65 @@ public abstract class Sprite implements Updatable {
      * Kills the sprite.
      */
     public void die() {
-       health = 0;
+        final boolean wasAlive = isAlive();
+        health = 0;
+        onHealthChanged(wasAlive);
     }
+
+    /**
+     * Notifies the {@link #gameState} if the sprite died or was revived.
+     *
+     * @param wasAlive Whether the sprite was alive before its health changed.
+     * @see GameState#updateAliveState(Sprite)
+     */
+    private void onHealthChanged(final boolean wasAlive) {
+        if (gameState != null && wasAlive != isAlive()) {
+            gameState.updateAliveState(this);
+        }
+    }
+
+    // --interpolation-- //
+
+    /**
+     * Stores the current position as the position at the start of the current simulation tick.
+     * It is called for every sprite at the start of each tick. The absolute position is stored, so sprites whose
+     * coordinates are relative to something else (like an {@link Enemy} in a formation) are interpolated correctly.
+     */
+    public void storePreviousPosition() {
+        previousX = getX();
+        previousY = getY();
+        previousPositionSet = true;
+    }
+
+    /**
+     * Forgets the position at the start of the current tick, so the sprite is not interpolated until the next tick.
+     * It has to be called whenever the sprite is placed somewhere instead of moving there.
+     */
+    public void clearPreviousPosition() {
+        previousPositionSet = false;
+    }
+
+    @Override
+    public double getInterpolatedX(final double alpha) {
+        if (!previousPositionSet || alpha >= 1) {
+            return getX();
+        }
+        return previousX + (getX() - previousX) * alpha;
+    }
+
+    @Override
+    public double getInterpolatedY(final double alpha) {
+        if (!previousPositionSet || alpha >= 1) {
+            return getY();
+        }
+        return previousY + (getY() - previousY) * alpha;
+    }
+
     // --update-- //
 
     @Override
     public void update(final double elapsedTime) {
-        Bounds newBounds = Utils.getNextPosition(getBounds(), velocity, direction, elapsedTime);
-        newBounds = Utils.clamp(newBounds);
-        setX(newBounds.getMinX());
-        setY(newBounds.getMinY());
+        setX(Utils.clampX(Utils.getNextX(getX(), velocity, direction, elapsedTime), getWidth()));
+        setY(Utils.clampY(Utils.getNextY(getY(), velocity, direction, elapsedTime), getHeight()));
     }
 }
@@ -0,0 +1,191 @@
+package h13.shared;
+
+import javafx.concurrent.Task;
+import javafx.scene.image.Image;
+import javafx.scene.text.Font;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static h13.controller.GameConstants.*;
+
+/**
+ * The {@link AssetCache} decodes every texture and font resource only once and shares the result between all users.
+ * <br>
+ * All methods are thread-safe, so the assets can be preloaded on a background thread with {@link #preload()} while the
+ * main menu is shown. Sprites and scenes created afterwards get the already decoded assets without any disk access.
+ */
+public final class AssetCache {
+
+    // --Variables-- //
+
+    /**
+     * The decoded images by their resource path.
+     */
+    private static final Map<String, Image> IMAGES = new ConcurrentHashMap<>();
+
+    /**
+     * The loaded fonts by their resource path and size.
+     */
+    private static final Map<String, Font> FONTS = new ConcurrentHashMap<>();
+
+    /**
+     * The regions of the {@linkplain h13.controller.GameConstants#SPRITE_TEXTURE_PATHS sprite textures} in the shared sprite
+     * atlas by their resource path, or {@code null} if the atlas was not packed yet.
+     */
+    private static @Nullable Map<String, TextureAtlas.Region> spriteAtlas;
+
+    /**
+     * The running or finished preload task, if {@link #preload()} was called before.
+     */
+    private static @Nullable Task<Long> preloadTask;
+
+    // --Constructors-- //
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private AssetCache() {
+    }
+
+    // --Methods-- //
+
+    /**
+     * Gets the image at the given resource path, decoding it on the first request.
+     *
+     * @param path The resource path of the image.
+     * @return The shared {@link Image}.
+     * @throws IllegalArgumentException If the resource could not be found.
+     */
+    public static Image getImage(final String path) {
+        return IMAGES.computeIfAbsent(path, Image::new);
+    }
+
+    /**
+     * Gets the font at the given resource path in the given size, loading it on the first request.
+     *
+     * @param path The resource path of the font file.
+     * @param size The size of the font.
+     * @return The shared {@link Font}, or {@code null} if it could not be loaded.
+     */
+    public static @Nullable Font getFont(final String path, final double size) {
+        return FONTS.computeIfAbsent(path + "@" + size, key -> {
+            try (InputStream in = AssetCache.class.getResourceAsStream(path)) {
+                return in == null ? null : Font.loadFont(in, size);
+            } catch (final IOException e) {
+                e.printStackTrace();
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Gets the region of the image at the given resource path in the shared sprite atlas.
+     *
+     * @param path The resource path of the image.
+     * @return The region of the image, or {@code null} if the image is not part of the atlas.
+     * @see #getSpriteAtlas()
+     */
+    public static @Nullable TextureAtlas.Region getAtlasRegion(final String path) {
+        return getSpriteAtlas().get(path);
+    }
+
+    /**
+     * Gets the shared sprite atlas, which contains all {@linkplain h13.controller.GameConstants#SPRITE_TEXTURE_PATHS sprite
+     * textures}. It is packed on the first request.
+     *
+     * @return The regions of the sprite textures in the atlas by their resource path.
+     */
+    public static synchronized Map<String, TextureAtlas.Region> getSpriteAtlas() {
+        if (spriteAtlas == null) {
+            final Map<String, Image> textures = new HashMap<>();
+            for (final String path : SPRITE_TEXTURE_PATHS) {
+                try {
+                    textures.put(path, getImage(path));
+                } catch (final Exception e) {
+                    System.out.println("Failed to pack texture: " + path);
+                    e.printStackTrace();
+                }
+            }
+            spriteAtlas = TextureAtlas.pack(textures);
+        }
+        return spriteAtlas;
+    }
+
+    /**
+     * Checks whether the image at the given resource path was already decoded.
+     *
+     * @param path The resource path of the image.
+     * @return {@code true} if the image is cached, {@code false} otherwise.
+     */
+    public static boolean isCached(final String path) {
+        return IMAGES.containsKey(path);
+    }
+
+    /**
+     * Starts preloading all {@linkplain h13.controller.GameConstants#SPRITE_TEXTURE_PATHS sprite textures},
+     * {@linkplain h13.controller.GameConstants#WALLPAPER_PATHS wallpapers} and the
+     * {@linkplain h13.controller.GameConstants#HUD_FONT HUD font} on a background thread, and packs the
+     * {@linkplain #getSpriteAtlas() sprite atlas}.
+     * <br>
+     * The returned {@link Task} reports its progress and the asset that is currently loaded, its value is the total loading
+     * time in milliseconds. Subsequent calls return the same task.
+     *
+     * @return The preload task.
+     */
+    public static synchronized Task<Long> preload() {
+        if (preloadTask == null) {
+            preloadTask = createPreloadTask();
+            final Thread thread = new Thread(preloadTask, "asset-preloader");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return preloadTask;
+    }
+
+    /**
+     * Creates a {@link Task} that loads all assets into the cache. Its last message and its value report the total time.
+     *
+     * @return The created task.
+     */
+    private static Task<Long> createPreloadTask() {
+        return new Task<>() {
+            @Override
+            protected Long call() {
+                final List<String> images = new ArrayList<>(SPRITE_TEXTURE_PATHS);
+                images.addAll(WALLPAPER_PATHS);
+                final int total = images.size() + 1;
+                final long start = System.nanoTime();
+
+                for (int i = 0; i < images.size(); i++) {
+                    final String path = images.get(i);
+                    updateMessage("Loading " + path);
+                    try {
+                        getImage(path);
+                    } catch (final Exception e) {
+                        System.out.println("Failed to preload texture: " + path);
+                        e.printStackTrace();
+                    }
+                    updateProgress(i + 1, total);
+                }
+
+                updateMessage("Packing sprite atlas");
+                getSpriteAtlas();
+
+                updateMessage("Loading " + HUD_FONT_PATH);
+                getFont(HUD_FONT_PATH, HUD_FONT_SIZE);
+
+                final long elapsed = (System.nanoTime() - start) / 1_000_000;
+                updateMessage("Loaded " + total + " assets in " + elapsed + " ms");
+                updateProgress(total, total);
+                return elapsed;
+            }
+        };
+    }
+}
@@ -0,0 +1,143 @@
+package h13.shared;
+
+import java.util.Arrays;
+
+/**
+ * A {@link Histogram} counts non-negative values in buckets of a fixed width, so recording a value is a single array
+ * increment and percentiles can be read at any time without sorting or storing the values.
+ * <br>
+ * Values beyond the last bucket are counted in the last bucket. Percentiles are reported as the upper bound of their bucket,
+ * capped at the largest recorded value, so they are accurate to one {@linkplain #getBucketWidth() bucket width}.
+ * <br>
+ * A {@link Histogram} is not thread-safe. It has to be recorded and read by the same thread.
+ */
+public class Histogram {
+
+    // --Variables-- //
+
+    /**
+     * The amount of values per bucket.
+     */
+    private final long[] buckets;
+
+    /**
+     * The range of values covered by each bucket.
+     */
+    private final long bucketWidth;
+
+    /**
+     * The amount of recorded values.
+     */
+    private long count;
+
+    /**
+     * The sum of all recorded values.
+     */
+    private long sum;
+
+    /**
+     * The largest recorded value.
+     */
+    private long max;
+
+    // --Constructors-- //
+
+    /**
+     * Creates a new, empty {@link Histogram}.
+     *
+     * @param bucketWidth The range of values covered by each bucket.
+     * @param bucketCount The amount of buckets.
+     */
+    public Histogram(final long bucketWidth, final int bucketCount) {
+        this.bucketWidth = bucketWidth;
+        this.buckets = new long[bucketCount];
+    }
+
+    // --Getters and Setters-- //
+
+    /**
+     * Gets the value of {@link #bucketWidth} field.
+     *
+     * @return The value of {@link #bucketWidth} field.
+     * @see #bucketWidth
+     */
+    public long getBucketWidth() {
+        return bucketWidth;
+    }
+
+    /**
+     * Gets the value of {@link #count} field.
+     *
+     * @return The value of {@link #count} field.
+     * @see #count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the value of {@link #max} field.
+     *
+     * @return The value of {@link #max} field.
+     * @see #max
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Gets the mean of all recorded values.
+     *
+     * @return The mean, or {@code 0} if no value was recorded.
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    // --Methods-- //
+
+    /**
+     * Records the given value.
+     *
+     * @param value The value to record. Negative values are recorded as {@code 0}.
+     */
+    public void record(final long value) {
+        final long clamped = Math.max(0, value);
+        buckets[(int) Math.min(buckets.length - 1, clamped / bucketWidth)]++;
+        count++;
+        sum += clamped;
+        max = Math.max(max, clamped);
+    }
+
+    /**
+     * Gets the given percentile of all recorded values.
+     *
+     * @param percentile The percentile, between {@code 0} and {@code 100}.
+     * @return The upper bound of the bucket that contains the percentile, capped at {@link #max}, or {@code 0} if no value
+     * was recorded.
+     */
+    public long getPercentile(final double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.min(max, (i + 1) * bucketWidth);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Removes all recorded values.
+     */
+    public void reset() {
+        Arrays.fill(buckets, 0);
+        count = 0;
+        sum = 0;
+        max = 0;
+    }
+}
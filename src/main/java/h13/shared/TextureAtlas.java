@@ -0,0 +1,114 @@
+package h13.shared;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link TextureAtlas} packs several images into a single image, so sprites with different textures can be drawn from
+ * the same source image using source rectangles.
+ * <br>
+ * The images are packed into rows (shelves) from the tallest to the smallest one, with a transparent gap of
+ * {@link #PADDING} pixels between them so smoothed sampling does not bleed into neighbouring regions.
+ */
+public final class TextureAtlas {
+
+    /**
+     * A rectangular part of an atlas image.
+     *
+     * @param image  The atlas image.
+     * @param x      The x-coordinate of the region in the atlas image.
+     * @param y      The y-coordinate of the region in the atlas image.
+     * @param width  The width of the region.
+     * @param height The height of the region.
+     * @param url    The url of the image the region was packed from, or {@code null} if it is unknown.
+     */
+    public record Region(Image image, double x, double y, double width, double height, @Nullable String url) {
+
+        /**
+         * Creates a region that covers the whole given image.
+         *
+         * @param image The image.
+         * @return The created region.
+         */
+        public static Region of(final Image image) {
+            return new Region(image, 0, 0, image.getWidth(), image.getHeight(), image.getUrl());
+        }
+    }
+
+    /**
+     * The gap between two packed images in pixels.
+     */
+    public static final int PADDING = 1;
+
+    // --Constructors-- //
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private TextureAtlas() {
+    }
+
+    // --Methods-- //
+
+    /**
+     * Packs the given images into a new atlas image.
+     *
+     * @param images The images to pack by their key.
+     * @param <K>    The type of the keys.
+     * @return The region of every image in the atlas by its key.
+     */
+    public static <K> Map<K, Region> pack(final Map<K, Image> images) {
+        final List<Map.Entry<K, Image>> entries = new ArrayList<>(images.entrySet());
+        entries.sort(Comparator.comparingDouble((Map.Entry<K, Image> e) -> e.getValue().getHeight()).reversed());
+
+        double area = 0;
+        double widest = 1;
+        for (final Map.Entry<K, Image> entry : entries) {
+            area += (entry.getValue().getWidth() + PADDING) * (entry.getValue().getHeight() + PADDING);
+            widest = Math.max(widest, entry.getValue().getWidth());
+        }
+        final int atlasWidth = (int) Math.max(widest, Math.ceil(Math.sqrt(area)));
+
+        // place the images in shelves
+        final int[] xs = new int[entries.size()];
+        final int[] ys = new int[entries.size()];
+        int x = 0;
+        int y = 0;
+        int shelfHeight = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            final Image image = entries.get(i).getValue();
+            final int width = (int) image.getWidth();
+            if (x > 0 && x + width > atlasWidth) {
+                x = 0;
+                y += shelfHeight + PADDING;
+                shelfHeight = 0;
+            }
+            xs[i] = x;
+            ys[i] = y;
+            x += width + PADDING;
+            shelfHeight = Math.max(shelfHeight, (int) image.getHeight());
+        }
+
+        final WritableImage atlas = new WritableImage(atlasWidth, Math.max(1, y + shelfHeight));
+        final Map<K, Region> regions = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            final Image image = entries.get(i).getValue();
+            final PixelReader reader = image.getPixelReader();
+            final int width = (int) image.getWidth();
+            final int height = (int) image.getHeight();
+            if (reader != null && width > 0 && height > 0) {
+                atlas.getPixelWriter().setPixels(xs[i], ys[i], width, height, reader, 0, 0);
+            }
+            regions.put(entries.get(i).getKey(), new Region(atlas, xs[i], ys[i], width, height, image.getUrl()));
+        }
+        return regions;
+    }
+}
@@ -44,4 +44,77 @@ public class Utils {
         double newMinY = bounds.getMinY() + direction.getY() * constant;
         return new BoundingBox(newMinX, newMinY, bounds.getWidth(), bounds.getHeight());
     }
+
+    /**
+     * Returns the closest x-coordinate for a box of the given width that is within the game bounds.
+     * This is the allocation free counterpart of {@link #clamp(Bounds)}.
+     *
+     * @param x     The x-coordinate to be clamped.
+     * @param width The width of the box.
+     * @return the clamped x-coordinate.
+     */
+    public static double clampX(final double x, final double width) {
+        return Math.max(ORIGINAL_GAME_BOUNDS.getMinX(), Math.min(ORIGINAL_GAME_BOUNDS.getMaxX() - width, x));
+    }
+
+    /**
+     * Returns the closest y-coordinate for a box of the given height that is within the game bounds.
+     * This is the allocation free counterpart of {@link #clamp(Bounds)}.
+     *
+     * @param y      The y-coordinate to be clamped.
+     * @param height The height of the box.
+     * @return the clamped y-coordinate.
+     */
+    public static double clampY(final double y, final double height) {
+        return Math.max(ORIGINAL_GAME_BOUNDS.getMinY(), Math.min(ORIGINAL_GAME_BOUNDS.getMaxY() - height, y));
+    }
+
+    /**
+     * Returns the moved x-coordinate for the given {@link Direction}, velocity and time.
+     * This is the allocation free counterpart of {@link #getNextPosition(Bounds, double, Direction, double)}.
+     *
+     * @param x           The x-coordinate to be moved.
+     * @param velocity    The velocity of the movement.
+     * @param direction   The direction of the movement.
+     * @param elapsedTime The time elapsed since the last movement.
+     * @return the moved x-coordinate.
+     */
+    public static double getNextX(final double x, final double velocity, final Direction direction, final double elapsedTime) {
+        return x + direction.getX() * (velocity * elapsedTime);
+    }
+
+    /**
+     * Returns the moved y-coordinate for the given {@link Direction}, velocity and time.
+     * This is the allocation free counterpart of {@link #getNextPosition(Bounds, double, Direction, double)}.
+     *
+     * @param y           The y-coordinate to be moved.
+     * @param velocity    The velocity of the movement.
+     * @param direction   The direction of the movement.
+     * @param elapsedTime The time elapsed since the last movement.
+     * @return the moved y-coordinate.
+     */
+    public static double getNextY(final double y, final double velocity, final Direction direction, final double elapsedTime) {
+        return y + direction.getY() * (velocity * elapsedTime);
+    }
+
+    /**
+     * Checks whether the two given boxes intersect, with the same semantics as {@link Bounds#intersects(Bounds)}.
+     *
+     * @param x1 The x-coordinate of the first box.
+     * @param y1 The y-coordinate of the first box.
+     * @param w1 The width of the first box.
+     * @param h1 The height of the first box.
+     * @param x2 The x-coordinate of the second box.
+     * @param y2 The y-coordinate of the second box.
+     * @param w2 The width of the second box.
+     * @param h2 The height of the second box.
+     * @return {@code true} if the boxes intersect, {@code false} otherwise.
+     */
+    public static boolean intersects(final double x1, final double y1, final double w1, final double h1,
+                                     final double x2, final double y2, final double w2, final double h2) {
+        if (w1 < 0 || h1 < 0 || w2 < 0 || h2 < 0) {
+            return false;
+        }
+        return x2 + w2 >= x1 && y2 + h2 >= y1 && x2 <= x1 + w1 && y2 <= y1 + h1;
+    }
 }
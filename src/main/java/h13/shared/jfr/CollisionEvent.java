@@ -0,0 +1,35 @@
+package h13.shared.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for a collision pass of the {@link h13.model.gameplay.CollisionGrid}.
+ */
+@Name("h13.Collisions")
+@Label("Collision Pass")
+@Category({"Space Invaders", "Game Loop"})
+@Description("Rebuilding the collision grid and testing all bullets against it")
+public class CollisionEvent extends Event {
+
+    /**
+     * The amount of sprites that were inserted into the grid.
+     */
+    @Label("Sprites")
+    public int spriteCount;
+
+    /**
+     * The amount of bullets that were tested.
+     */
+    @Label("Bullets")
+    public int bulletCount;
+
+    /**
+     * The amount of hits.
+     */
+    @Label("Hits")
+    public int hitCount;
+}
@@ -0,0 +1,36 @@
+package h13.shared.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for the transition to the next level by the
+ * {@link h13.controller.gamelogic.EnemyController}.
+ */
+@Name("h13.LevelTransition")
+@Label("Level Transition")
+@Category({"Space Invaders", "Game Loop"})
+@Description("Removing the enemy bullets and spawning the enemies of the next level")
+public class LevelTransitionEvent extends Event {
+
+    /**
+     * The amount of enemy bullets that were removed.
+     */
+    @Label("Removed Bullets")
+    public int removedBullets;
+
+    /**
+     * The amount of enemies that were spawned.
+     */
+    @Label("Spawned Enemies")
+    public int spawnedEnemies;
+
+    /**
+     * The amount of sprites after the transition.
+     */
+    @Label("Sprites")
+    public int spriteCount;
+}
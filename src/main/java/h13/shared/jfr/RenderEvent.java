@@ -0,0 +1,47 @@
+package h13.shared.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for a frame rendered by the {@link h13.view.gui.GameBoard}.
+ */
+@Name("h13.Render")
+@Label("Render Pass")
+@Category({"Space Invaders", "Game Loop"})
+@Description("Rendering the layers of the game board")
+public class RenderEvent extends Event {
+
+    /**
+     * The tick that was rendered.
+     */
+    @Label("Tick")
+    public long tick;
+
+    /**
+     * The amount of sprites that were rendered.
+     */
+    @Label("Sprites")
+    public int spriteCount;
+
+    /**
+     * The amount of draw calls of the sprite layer.
+     */
+    @Label("Draw Calls")
+    public int drawCalls;
+
+    /**
+     * The amount of state changes of the sprite layer.
+     */
+    @Label("State Changes")
+    public int stateChanges;
+
+    /**
+     * The {@linkplain h13.view.gui.RenderBackend.Type type} of the render backend.
+     */
+    @Label("Backend")
+    public String backend;
+}
@@ -0,0 +1,41 @@
+package h13.shared.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for loading the texture of a {@link h13.model.gameplay.sprites.Sprite}.
+ */
+@Name("h13.TextureLoad")
+@Label("Texture Load")
+@Category({"Space Invaders", "Assets"})
+@Description("Looking up or decoding the texture of a sprite")
+public class TextureLoadEvent extends Event {
+
+    /**
+     * The path of the texture.
+     */
+    @Label("Path")
+    public String path;
+
+    /**
+     * The simple class name of the sprite.
+     */
+    @Label("Sprite")
+    public String sprite;
+
+    /**
+     * Whether the texture is part of the sprite atlas.
+     */
+    @Label("In Atlas")
+    public boolean inAtlas;
+
+    /**
+     * Whether the texture was loaded.
+     */
+    @Label("Loaded")
+    public boolean loaded;
+}
@@ -0,0 +1,41 @@
+package h13.shared.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event for a single tick of the {@link h13.controller.gamelogic.GameSimulation}.
+ */
+@Name("h13.Tick")
+@Label("Tick")
+@Category({"Space Invaders", "Game Loop"})
+@Description("A fixed tick of the game simulation")
+public class TickEvent extends Event {
+
+    /**
+     * The number of the tick.
+     */
+    @Label("Tick")
+    public long tick;
+
+    /**
+     * The amount of sprites after the tick.
+     */
+    @Label("Sprites")
+    public int spriteCount;
+
+    /**
+     * The amount of bullets after the tick.
+     */
+    @Label("Bullets")
+    public int bulletCount;
+
+    /**
+     * The amount of alive enemies after the tick.
+     */
+    @Label("Enemies")
+    public int enemyCount;
+}
@@ -0,0 +1,59 @@
+package h13.view.gui;
+
+import h13.model.gameplay.Renderable;
+import javafx.scene.canvas.GraphicsContext;
+
+import java.util.Collection;
+
+import static h13.controller.GameConstants.ORIGINAL_GAME_BOUNDS;
+
+/**
+ * A {@link RenderBackend} that draws the sprites with the {@link GraphicsContext}, using a {@link RenderQueue} to keep the
+ * state changes to a minimum.
+ */
+public class CanvasRenderBackend implements RenderBackend {
+
+    // --Variables-- //
+
+    /**
+     * The {@link RenderQueue} that is used to draw the sprites.
+     */
+    private final RenderQueue renderQueue = new RenderQueue();
+
+    // --Getters and Setters-- //
+
+    /**
+     * Gets the value of {@link #renderQueue} field.
+     *
+     * @return The value of {@link #renderQueue} field.
+     * @see #renderQueue
+     */
+    public RenderQueue getRenderQueue() {
+        return renderQueue;
+    }
+
+    @Override
+    public int getDrawCalls() {
+        return renderQueue.getDrawCalls();
+    }
+
+    @Override
+    public int getStateChanges() {
+        return renderQueue.getStateChanges();
+    }
+
+    @Override
+    public void setTextureScale(final double scale) {
+        renderQueue.getTextureVariants().setScale(scale);
+    }
+
+    // --Methods-- //
+
+    @Override
+    public void render(final GraphicsContext gc, final Collection<? extends Renderable> sprites, final double alpha) {
+        gc.clearRect(ORIGINAL_GAME_BOUNDS.getMinX(), ORIGINAL_GAME_BOUNDS.getMinY(),
+            ORIGINAL_GAME_BOUNDS.getWidth(), ORIGINAL_GAME_BOUNDS.getHeight());
+        renderQueue.build(sprites);
+        renderQueue.render(gc, alpha);
+    }
+}
@@ -0,0 +1,115 @@
+package h13.view.gui;
+
+import h13.controller.gamelogic.InputLatencyTracker;
+import h13.controller.gamelogic.PerformanceMonitor;
+import h13.controller.gamelogic.PhaseMetrics;
+import h13.shared.Histogram;
+import javafx.geometry.VPos;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import org.jetbrains.annotations.Nullable;
+
+import static h13.controller.GameConstants.DEBUG_OVERLAY_REFRESH_INTERVAL;
+
+/**
+ * A {@link DebugOverlay} shows diagnostic information about the running game on top of the {@link GameBoard}: the frame and
+ * tick rate, the sprite counts, the durations of the {@linkplain PhaseMetrics.Phase phases} of the game loop and the input
+ * latency.
+ * <br>
+ * It is hidden by default and toggled with {@link javafx.scene.input.KeyCode#F3}. Its text is only refreshed every
+ * {@link h13.controller.GameConstants#DEBUG_OVERLAY_REFRESH_INTERVAL} seconds while it is visible, so it does not cost
+ * anything when hidden and the numbers stay readable when shown.
+ */
+public class DebugOverlay extends Text {
+
+    /**
+     * The font of the overlay.
+     */
+    private static final Font FONT = Font.font("Monospaced", 12);
+
+    // --Variables-- //
+
+    /**
+     * The builder the text is composed in. It is reused between refreshes.
+     */
+    private final StringBuilder builder = new StringBuilder();
+
+    /**
+     * The time (in seconds) since the text was last refreshed.
+     */
+    private double sinceRefresh = Double.POSITIVE_INFINITY;
+
+    // --Constructors-- //
+
+    /**
+     * Creates a new, hidden {@link DebugOverlay}.
+     */
+    public DebugOverlay() {
+        setFont(FONT);
+        setFill(Color.LIME);
+        setTextOrigin(VPos.TOP);
+        setMouseTransparent(true);
+        setVisible(false);
+    }
+
+    // --Utility Methods-- //
+
+    /**
+     * Appends a line with the p50, p95 and p99 of the given histogram of nanoseconds in milliseconds to the {@link #builder}.
+     *
+     * @param label     The label of the line.
+     * @param histogram The histogram.
+     */
+    private void appendPercentiles(final String label, final Histogram histogram) {
+        builder.append(String.format("%-14s p50 %6.1f  p95 %6.1f  p99 %6.1f ms%n", label,
+            histogram.getPercentile(50) / 1e6, histogram.getPercentile(95) / 1e6, histogram.getPercentile(99) / 1e6));
+    }
+
+    // --Methods-- //
+
+    /**
+     * Shows the overlay if it is hidden and hides it otherwise.
+     */
+    public void toggle() {
+        setVisible(!isVisible());
+        sinceRefresh = Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Refreshes the text of the overlay if it is visible and the refresh interval has passed. Must be called by the renderer.
+     *
+     * @param elapsedTime        The time elapsed since the last frame in seconds.
+     * @param inputLatency       The input latency of the current session.
+     * @param performanceMonitor The performance metrics of the current session, or {@code null} if they are not collected.
+     */
+    public void update(final double elapsedTime, final InputLatencyTracker inputLatency,
+                       final @Nullable PerformanceMonitor performanceMonitor) {
+        if (!isVisible()) {
+            return;
+        }
+        sinceRefresh += elapsedTime;
+        if (sinceRefresh < DEBUG_OVERLAY_REFRESH_INTERVAL) {
+            return;
+        }
+        sinceRefresh = 0;
+
+        builder.setLength(0);
+        if (performanceMonitor != null) {
+            builder.append(String.format("fps %5.1f  tps %5.1f%n",
+                performanceMonitor.getFramesPerSecond(), performanceMonitor.getTicksPerSecond()));
+            builder.append(String.format("sprites %d  bullets %d  enemies %d%n", performanceMonitor.getSpriteCount(),
+                performanceMonitor.getBulletCount(), performanceMonitor.getEnemyCount()));
+            builder.append(String.format("%-14s %8s %8s%n", "phase", "p50 us", "p99 us"));
+            for (final PhaseMetrics.Phase phase : PhaseMetrics.Phase.values()) {
+                final PhaseMetrics.Summary summary = performanceMonitor.getSummary(phase);
+                builder.append(String.format("%-14s %8.1f %8.1f%n", phase.key(), summary.p50(phase) / 1e3,
+                    summary.p99(phase) / 1e3));
+            }
+        }
+        builder.append("input events   ").append(inputLatency.getInputToFrame().getCount()).append(System.lineSeparator());
+        appendPercentiles("input to tick", inputLatency.getInputToTick());
+        appendPercentiles("input to frame", inputLatency.getInputToFrame());
+        setText(builder.toString());
+    }
+}
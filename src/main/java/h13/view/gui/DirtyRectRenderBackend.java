@@ -0,0 +1,413 @@
+package h13.view.gui;
+
+import h13.model.gameplay.Renderable;
+import javafx.scene.canvas.GraphicsContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static h13.controller.GameConstants.DIRTY_RECT_FULL_REDRAW_THRESHOLD;
+import static h13.controller.GameConstants.ORIGINAL_GAME_BOUNDS;
+
+/**
+ * A {@link RenderBackend} that only redraws the parts of the sprite layer that changed since the last frame.
+ * <br>
+ * The backend remembers the bounds every sprite was drawn at. A sprite that moved, appeared or disappeared marks its previous
+ * and its current bounds as dirty. The dirty regions are cleared, which lets the cached background layer below the board
+ * show through, and only the sprites that intersect a dirty region are redrawn, clipped to the dirty regions.
+ * <br>
+ * If the dirty area exceeds {@link h13.controller.GameConstants#DIRTY_RECT_FULL_REDRAW_THRESHOLD} of the board, the whole
+ * board is redrawn instead, like the {@link CanvasRenderBackend} does.
+ */
+public class DirtyRectRenderBackend implements RenderBackend {
+
+    /**
+     * The padding (in game units) added to each dirty region, so antialiased sprite edges are cleared as well.
+     */
+    private static final double PADDING = 1;
+
+    /**
+     * A mutable axis-aligned rectangle in game coordinates.
+     */
+    private static final class Rect {
+
+        /**
+         * The left edge.
+         */
+        private double minX;
+
+        /**
+         * The top edge.
+         */
+        private double minY;
+
+        /**
+         * The right edge.
+         */
+        private double maxX;
+
+        /**
+         * The bottom edge.
+         */
+        private double maxY;
+
+        /**
+         * The frame the rectangle was last seen in.
+         */
+        private long frame;
+
+        /**
+         * Sets this rectangle to the padded bounds of the given sprite, snapped outwards to whole game units.
+         *
+         * @param sprite The sprite.
+         * @param alpha  The fraction of the current tick the sprite is interpolated at.
+         */
+        private void set(final Renderable sprite, final double alpha) {
+            final double x = sprite.getInterpolatedX(alpha);
+            final double y = sprite.getInterpolatedY(alpha);
+            minX = Math.floor(x - PADDING);
+            minY = Math.floor(y - PADDING);
+            maxX = Math.ceil(x + sprite.getWidth() + PADDING);
+            maxY = Math.ceil(y + sprite.getHeight() + PADDING);
+        }
+
+        /**
+         * Sets this rectangle to the given one.
+         *
+         * @param other The rectangle to copy.
+         */
+        private void set(final Rect other) {
+            minX = other.minX;
+            minY = other.minY;
+            maxX = other.maxX;
+            maxY = other.maxY;
+        }
+
+        /**
+         * Checks whether this rectangle has the same edges as the given one.
+         *
+         * @param other The rectangle to compare to.
+         * @return {@code true} if both rectangles are equal, {@code false} otherwise.
+         */
+        private boolean sameBounds(final Rect other) {
+            return minX == other.minX && minY == other.minY && maxX == other.maxX && maxY == other.maxY;
+        }
+
+        /**
+         * Checks whether this rectangle overlaps the given one.
+         *
+         * @param other The other rectangle.
+         * @return {@code true} if the rectangles overlap, {@code false} otherwise.
+         */
+        private boolean intersects(final Rect other) {
+            return minX < other.maxX && other.minX < maxX && minY < other.maxY && other.minY < maxY;
+        }
+
+        /**
+         * Grows this rectangle to also contain the given one.
+         *
+         * @param other The rectangle to include.
+         */
+        private void add(final Rect other) {
+            minX = Math.min(minX, other.minX);
+            minY = Math.min(minY, other.minY);
+            maxX = Math.max(maxX, other.maxX);
+            maxY = Math.max(maxY, other.maxY);
+        }
+
+        /**
+         * Gets the area of this rectangle.
+         *
+         * @return The area in square game units.
+         */
+        private double area() {
+            return (maxX - minX) * (maxY - minY);
+        }
+    }
+
+    // --Variables-- //
+
+    /**
+     * The {@link RenderQueue} that is used to draw the sprites.
+     */
+    private final RenderQueue renderQueue = new RenderQueue();
+
+    /**
+     * The bounds every sprite was last drawn at, by its {@linkplain Renderable#getRenderKey() render key}.
+     */
+    private final Map<Object, Rect> drawnBounds = new IdentityHashMap<>();
+
+    /**
+     * The dirty regions of the current frame. Only the first {@link #dirtyCount} entries are in use.
+     */
+    private final List<Rect> dirty = new ArrayList<>();
+
+    /**
+     * The amount of dirty regions of the current frame.
+     */
+    private int dirtyCount;
+
+    /**
+     * The sprites that are redrawn in the current frame.
+     */
+    private final List<Renderable> redrawn = new ArrayList<>();
+
+    /**
+     * A reused rectangle for the current bounds of a sprite.
+     */
+    private final Rect current = new Rect();
+
+    /**
+     * The current frame.
+     */
+    private long frame;
+
+    /**
+     * Whether the next frame has to be redrawn completely.
+     */
+    private boolean invalid = true;
+
+    /**
+     * The dirty area of the last frame in square game units. It is the board area if the last frame was a full redraw.
+     */
+    private double dirtyArea;
+
+    /**
+     * Whether the last frame was a full redraw.
+     */
+    private boolean fullRedraw;
+
+    /**
+     * The amount of frames that were rendered.
+     */
+    private long frameCount;
+
+    /**
+     * The amount of frames that were redrawn completely.
+     */
+    private long fullRedrawCount;
+
+    /**
+     * The sum of the dirty area of all frames, as a fraction of the board area.
+     */
+    private double totalDirtyFraction;
+
+    // --Getters and Setters-- //
+
+    @Override
+    public int getDrawCalls() {
+        return renderQueue.getDrawCalls();
+    }
+
+    @Override
+    public int getStateChanges() {
+        return renderQueue.getStateChanges();
+    }
+
+    @Override
+    public void setTextureScale(final double scale) {
+        renderQueue.getTextureVariants().setScale(scale);
+    }
+
+    /**
+     * Gets the value of {@link #dirtyArea} field.
+     *
+     * @return The value of {@link #dirtyArea} field.
+     * @see #dirtyArea
+     */
+    public double getDirtyArea() {
+        return dirtyArea;
+    }
+
+    /**
+     * Gets the dirty area of the last frame as a fraction of the board area.
+     *
+     * @return The dirty fraction, between {@code 0} and {@code 1}.
+     */
+    public double getDirtyFraction() {
+        return Math.min(1, dirtyArea / boardArea());
+    }
+
+    /**
+     * Gets the amount of dirty regions of the last frame.
+     *
+     * @return The amount of dirty regions, {@code 0} after a full redraw.
+     */
+    public int getDirtyRegionCount() {
+        return fullRedraw ? 0 : dirtyCount;
+    }
+
+    /**
+     * Gets the amount of sprites that were redrawn in the last frame.
+     *
+     * @return The amount of redrawn sprites.
+     */
+    public int getRedrawnSpriteCount() {
+        return renderQueue.getDrawCalls();
+    }
+
+    /**
+     * Gets the value of {@link #fullRedraw} field.
+     *
+     * @return The value of {@link #fullRedraw} field.
+     * @see #fullRedraw
+     */
+    public boolean isFullRedraw() {
+        return fullRedraw;
+    }
+
+    /**
+     * Gets the value of {@link #frameCount} field.
+     *
+     * @return The value of {@link #frameCount} field.
+     * @see #frameCount
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Gets the value of {@link #fullRedrawCount} field.
+     *
+     * @return The value of {@link #fullRedrawCount} field.
+     * @see #fullRedrawCount
+     */
+    public long getFullRedrawCount() {
+        return fullRedrawCount;
+    }
+
+    /**
+     * Gets the average dirty area of all frames as a fraction of the board area.
+     *
+     * @return The average dirty fraction, between {@code 0} and {@code 1}.
+     */
+    public double getAverageDirtyFraction() {
+        return frameCount == 0 ? 0 : totalDirtyFraction / frameCount;
+    }
+
+    // --Utility Methods-- //
+
+    /**
+     * Gets the area of the {@link h13.controller.GameConstants#ORIGINAL_GAME_BOUNDS}.
+     *
+     * @return The area in square game units.
+     */
+    private static double boardArea() {
+        return ORIGINAL_GAME_BOUNDS.getWidth() * ORIGINAL_GAME_BOUNDS.getHeight();
+    }
+
+    /**
+     * Marks the given region as dirty, merging it into an overlapping dirty region if there is one.
+     *
+     * @param region The region to mark.
+     */
+    private void markDirty(final Rect region) {
+        for (int i = 0; i < dirtyCount; i++) {
+            final Rect other = dirty.get(i);
+            if (other.intersects(region)) {
+                dirtyArea -= other.area();
+                other.add(region);
+                dirtyArea += other.area();
+                return;
+            }
+        }
+        if (dirtyCount == dirty.size()) {
+            dirty.add(new Rect());
+        }
+        final Rect added = dirty.get(dirtyCount++);
+        added.set(region);
+        dirtyArea += added.area();
+    }
+
+    /**
+     * Updates the {@link #drawnBounds} to the given sprites and collects the dirty regions.
+     *
+     * @param sprites The sprites of the frame.
+     * @param alpha   The fraction of the current tick the sprites are interpolated at.
+     */
+    private void collectDirtyRegions(final Collection<? extends Renderable> sprites, final double alpha) {
+        dirtyCount = 0;
+        dirtyArea = 0;
+        for (final Renderable sprite : sprites) {
+            current.set(sprite, alpha);
+            final Rect drawn = drawnBounds.get(sprite.getRenderKey());
+            if (drawn == null) {
+                final Rect added = new Rect();
+                added.set(current);
+                added.frame = frame;
+                drawnBounds.put(sprite.getRenderKey(), added);
+                markDirty(added);
+            } else {
+                drawn.frame = frame;
+                if (!drawn.sameBounds(current)) {
+                    markDirty(drawn);
+                    markDirty(current);
+                    drawn.set(current);
+                }
+            }
+        }
+        final Iterator<Rect> iterator = drawnBounds.values().iterator();
+        while (iterator.hasNext()) {
+            final Rect drawn = iterator.next();
+            if (drawn.frame != frame) {
+                markDirty(drawn);
+                iterator.remove();
+            }
+        }
+    }
+
+    // --Methods-- //
+
+    @Override
+    public void invalidate() {
+        invalid = true;
+    }
+
+    @Override
+    public void render(final GraphicsContext gc, final Collection<? extends Renderable> sprites, final double alpha) {
+        frame++;
+        collectDirtyRegions(sprites, alpha);
+
+        fullRedraw = invalid || dirtyArea > DIRTY_RECT_FULL_REDRAW_THRESHOLD * boardArea();
+        invalid = false;
+        frameCount++;
+        if (fullRedraw) {
+            fullRedrawCount++;
+            dirtyArea = boardArea();
+            totalDirtyFraction += 1;
+            gc.clearRect(ORIGINAL_GAME_BOUNDS.getMinX(), ORIGINAL_GAME_BOUNDS.getMinY(),
+                ORIGINAL_GAME_BOUNDS.getWidth(), ORIGINAL_GAME_BOUNDS.getHeight());
+            renderQueue.build(sprites);
+            renderQueue.render(gc, alpha);
+            return;
+        }
+        totalDirtyFraction += getDirtyFraction();
+
+        redrawn.clear();
+        for (final Renderable sprite : sprites) {
+            current.set(sprite, alpha);
+            for (int i = 0; i < dirtyCount; i++) {
+                if (dirty.get(i).intersects(current)) {
+                    redrawn.add(sprite);
+                    break;
+                }
+            }
+        }
+
+        gc.save();
+        gc.beginPath();
+        for (int i = 0; i < dirtyCount; i++) {
+            final Rect region = dirty.get(i);
+            gc.clearRect(region.minX, region.minY, region.maxX - region.minX, region.maxY - region.minY);
+            gc.rect(region.minX, region.minY, region.maxX - region.minX, region.maxY - region.minY);
+        }
+        gc.clip();
+        renderQueue.build(redrawn);
+        renderQueue.render(gc, alpha);
+        gc.restore();
+    }
+}
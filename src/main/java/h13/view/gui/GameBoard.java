@@ -2,21 +2,22 @@ package h13.view.gui;
 
 import h13.controller.ApplicationSettings;
 import h13.controller.GameConstants;
+import h13.controller.gamelogic.GameInputHandler;
+import h13.controller.gamelogic.GameSimulation;
 import h13.controller.scene.game.GameController;
+import h13.model.gameplay.GameSnapshot;
+import h13.model.gameplay.Renderable;
 import h13.model.gameplay.Updatable;
-import h13.model.gameplay.sprites.Bullet;
-import h13.model.gameplay.sprites.Enemy;
-import h13.model.gameplay.sprites.Player;
 import h13.model.gameplay.sprites.Sprite;
+import h13.shared.AssetCache;
+import h13.shared.jfr.RenderEvent;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
-import javafx.scene.text.Text;
 import javafx.scene.transform.Affine;
-import javafx.scene.transform.Scale;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.List;
+import java.util.Collection;
 
 import static h13.controller.GameConstants.*;
 
@@ -26,6 +27,18 @@ import static h13.controller.GameConstants.*;
  * {@link Sprite}s as well as the HUD are drawn.
  * It is part of the {@link GameScene} and is controlled by a
  * {@link GameController}.
+ * <br>
+ * The board is composed of three stacked canvases that are only redrawn when their content changes:
+ * <ol>
+ * <li>the {@linkplain #getBackgroundLayer() background layer} with the wallpaper and the border, redrawn on resize or when
+ * the background setting changes,</li>
+ * <li>the board itself with the sprites, redrawn every frame,</li>
+ * <li>the {@linkplain #getHudLayer() HUD layer}, redrawn on resize or when the score or the lives change.</li>
+ * </ol>
+ * A {@linkplain #getDebugOverlay() debug overlay} can be shown on top of them.
+ * If {@link ApplicationSettings#nativeResolutionProperty()} is enabled, the sprites are rasterized into a
+ * {@link NativeFramebuffer} which is upscaled by the largest integer factor that fits, with nearest-neighbour scaling and
+ * letterboxing.
  */
 public class GameBoard extends Canvas implements Updatable {
 
@@ -45,6 +58,96 @@ public class GameBoard extends Canvas implements Updatable {
      */
     private @Nullable Image backgroundImage;
 
+    /**
+     * The transform from the {@link GameConstants#ORIGINAL_GAME_BOUNDS} to the size of this {@link GameBoard}.
+     * It is reused every frame.
+     */
+    private final Affine transform = new Affine();
+
+    /**
+     * The {@link RenderBackend} that is used to draw the sprites.
+     */
+    private RenderBackend renderBackend = RENDER_BACKEND.create();
+
+    /**
+     * The type of the {@link #renderBackend}.
+     */
+    private RenderBackend.Type renderBackendType = RENDER_BACKEND;
+
+    /**
+     * The {@link GlyphAtlas} the HUD is composed from, rasterized at the current scale.
+     */
+    private @Nullable GlyphAtlas hudAtlas;
+
+    /**
+     * The composed score text of the HUD.
+     */
+    private @Nullable Image scoreStrip;
+
+    /**
+     * The composed lives text of the HUD.
+     */
+    private @Nullable Image livesStrip;
+
+    /**
+     * The score shown by {@link #scoreStrip}.
+     */
+    private int hudScore = -1;
+
+    /**
+     * The health shown by {@link #livesStrip}.
+     */
+    private int hudHealth = -1;
+
+    /**
+     * The canvas below the board that contains the background and the border.
+     * It holds the wallpaper pre-scaled to the current size.
+     */
+    private final Canvas backgroundLayer;
+
+    /**
+     * The canvas above the board that contains the HUD.
+     */
+    private final Canvas hudLayer;
+
+    /**
+     * The {@link DebugOverlay} above the HUD layer.
+     */
+    private final DebugOverlay debugOverlay = new DebugOverlay();
+
+    /**
+     * The width the layers were last drawn at.
+     */
+    private double layerWidth = -1;
+
+    /**
+     * The height the layers were last drawn at.
+     */
+    private double layerHeight = -1;
+
+    /**
+     * Whether the {@link #backgroundLayer} was last drawn with the background enabled.
+     */
+    private boolean backgroundLoaded;
+
+    /**
+     * The {@link NativeFramebuffer} the sprites are drawn to if
+     * {@link ApplicationSettings#nativeResolutionProperty()} is enabled.
+     */
+    private final NativeFramebuffer framebuffer = new NativeFramebuffer();
+
+    /**
+     * Whether the layers were last drawn at native resolution.
+     */
+    private boolean layersNative;
+
+    /**
+     * The fraction of the current simulation tick the sprites are drawn at.
+     *
+     * @see h13.controller.gamelogic.GameSimulation#getInterpolationAlpha()
+     */
+    private double interpolationAlpha = 1;
+
     // --Constructors-- //
 
     /**
@@ -57,17 +160,80 @@ public class GameBoard extends Canvas implements Updatable {
     public GameBoard(final double width, final double height, final GameScene gameScene) {
         super(width, height);
         this.gameScene = gameScene;
-        if (ApplicationSettings.loadBackgroundProperty().get()) {
+        loadBackground();
+
+        backgroundLayer = createLayer(width, height);
+        hudLayer = createLayer(width, height);
+        debugOverlay.translateXProperty().bind(translateXProperty().add(widthProperty().multiply(HUD_PADDING / ORIGINAL_GAME_BOUNDS.getWidth())));
+        debugOverlay.translateYProperty().bind(translateYProperty().add(heightProperty().multiply(HUD_HEIGHT / ORIGINAL_GAME_BOUNDS.getHeight())));
+    }
+
+    // --Getters and Setters-- //
+
+    /**
+     * Gets the value of {@link #backgroundLayer} field.
+     *
+     * @return The value of {@link #backgroundLayer} field.
+     * @see #backgroundLayer
+     */
+    public Canvas getBackgroundLayer() {
+        return backgroundLayer;
+    }
+
+    /**
+     * Gets the value of {@link #hudLayer} field.
+     *
+     * @return The value of {@link #hudLayer} field.
+     * @see #hudLayer
+     */
+    public Canvas getHudLayer() {
+        return hudLayer;
+    }
+
+    /**
+     * Gets the value of {@link #debugOverlay} field.
+     *
+     * @return The value of {@link #debugOverlay} field.
+     * @see #debugOverlay
+     */
+    public DebugOverlay getDebugOverlay() {
+        return debugOverlay;
+    }
+
+    // --Utility Methods-- //
+
+    /**
+     * Creates a canvas that always has the same size and position as this {@link GameBoard}.
+     *
+     * @param width  The initial width.
+     * @param height The initial height.
+     * @return The created canvas.
+     */
+    private Canvas createLayer(final double width, final double height) {
+        final Canvas layer = new Canvas(width, height);
+        layer.widthProperty().bind(widthProperty());
+        layer.heightProperty().bind(heightProperty());
+        layer.translateXProperty().bind(translateXProperty());
+        layer.translateYProperty().bind(translateYProperty());
+        layer.setMouseTransparent(true);
+        return layer;
+    }
+
+    /**
+     * Loads the {@link #backgroundImage} if the background is enabled in the {@link ApplicationSettings}.
+     */
+    private void loadBackground() {
+        backgroundLoaded = ApplicationSettings.loadBackgroundProperty().get();
+        backgroundImage = null;
+        if (backgroundLoaded) {
             try {
-                backgroundImage = new Image("/h13/images/wallpapers/Galaxy3.jpg");
+                backgroundImage = AssetCache.getImage(BACKGROUND_IMAGE_PATH);
             } catch (final Exception e) {
                 e.printStackTrace();
             }
         }
     }
 
-    // --Utility Methods-- //
-
     /**
      * Calculates the Scale factor of the {@link GameBoard} based on the
      * {@link GameScene}'s width and height.
@@ -78,6 +244,93 @@ public class GameBoard extends Canvas implements Updatable {
         return getWidth() / ORIGINAL_GAME_BOUNDS.getWidth();
     }
 
+    /**
+     * Gets the scale factor the game is rendered at. At native resolution, this is the largest integer factor that fits
+     * into the {@link GameBoard}, otherwise it is the {@linkplain #getScale() scale factor} of the {@link GameBoard}.
+     *
+     * @return The render scale factor.
+     */
+    private double getRenderScale() {
+        if (!ApplicationSettings.nativeResolutionProperty().get()) {
+            return getScale();
+        }
+        return Math.max(1, Math.floor(Math.min(
+            getWidth() / ORIGINAL_GAME_BOUNDS.getWidth(),
+            getHeight() / ORIGINAL_GAME_BOUNDS.getHeight()
+        )));
+    }
+
+    /**
+     * Updates the {@link #transform} to map the {@link GameConstants#ORIGINAL_GAME_BOUNDS} to the {@link GameBoard}.
+     * At native resolution, the game is scaled by the {@linkplain #getRenderScale() integer render scale} and centered,
+     * leaving empty bars around it (letterboxing).
+     */
+    private void updateTransform() {
+        final double scale = getRenderScale();
+        if (ApplicationSettings.nativeResolutionProperty().get()) {
+            final double offsetX = Math.floor((getWidth() - ORIGINAL_GAME_BOUNDS.getWidth() * scale) / 2);
+            final double offsetY = Math.floor((getHeight() - ORIGINAL_GAME_BOUNDS.getHeight() * scale) / 2);
+            transform.setToTransform(scale, 0, offsetX - ORIGINAL_GAME_BOUNDS.getMinX() * scale,
+                0, scale, offsetY - ORIGINAL_GAME_BOUNDS.getMinY() * scale);
+        } else {
+            transform.setToTransform(scale, 0, 0, 0, scale, 0);
+        }
+    }
+
+    /**
+     * Clears the whole given layer, including the letterbox bars, and applies the {@link #transform}.
+     *
+     * @param gc The {@link GraphicsContext} of the layer.
+     */
+    private void clearLayer(final GraphicsContext gc) {
+        gc.setTransform(1, 0, 0, 1, 0, 0);
+        gc.clearRect(0, 0, gc.getCanvas().getWidth(), gc.getCanvas().getHeight());
+        gc.setTransform(transform);
+    }
+
+    /**
+     * Gets the value of {@link #renderBackend} field.
+     * It exposes the amount of draw calls and state changes of the last frame.
+     *
+     * @return The value of {@link #renderBackend} field.
+     * @see #renderBackend
+     */
+    public RenderBackend getRenderBackend() {
+        return renderBackend;
+    }
+
+    /**
+     * Replaces the {@link #renderBackend} with a new backend of the given type.
+     *
+     * @param type The type of the new backend.
+     * @see GameConstants#RENDER_BACKEND
+     */
+    public void setRenderBackend(final RenderBackend.Type type) {
+        renderBackend = type.create();
+        renderBackendType = type;
+        layerWidth = -1;
+    }
+
+    /**
+     * Gets the score shown in the HUD, taken from the latest {@link GameSnapshot} if the simulation runs on its own thread.
+     *
+     * @return The score of the player.
+     */
+    private int getDisplayedScore() {
+        final GameSnapshot snapshot = getGameController().getSnapshot();
+        return snapshot != null ? snapshot.getScore() : getGameController().getPlayer().getScore();
+    }
+
+    /**
+     * Gets the lives shown in the HUD, taken from the latest {@link GameSnapshot} if the simulation runs on its own thread.
+     *
+     * @return The health of the player.
+     */
+    private int getDisplayedHealth() {
+        final GameSnapshot snapshot = getGameController().getSnapshot();
+        return snapshot != null ? snapshot.getHealth() : getGameController().getPlayer().getHealth();
+    }
+
     /**
      * Gets the {@link GameController} that controls this {@link GameBoard}.
      *
@@ -92,14 +345,82 @@ public class GameBoard extends Canvas implements Updatable {
 
     @Override
     public void update(final double elapsedTime) {
-        final double scale = getScale();
+        final RenderEvent event = new RenderEvent();
+        event.begin();
+        if (renderBackendType != RENDER_BACKEND) {
+            setRenderBackend(RENDER_BACKEND);
+        }
+        final boolean nativeResolution = ApplicationSettings.nativeResolutionProperty().get();
+        final GameSnapshot snapshot = getGameController().getSnapshot();
+        final GameSimulation simulation = getGameController().getSimulation();
+        if (snapshot != null) {
+            interpolationAlpha = snapshot.getInterpolationAlpha(System.nanoTime());
+        } else {
+            interpolationAlpha = simulation != null ? simulation.getInterpolationAlpha() : 1;
+        }
+        updateTransform();
+
+        final boolean resized = getWidth() != layerWidth || getHeight() != layerHeight || nativeResolution != layersNative;
+        layerWidth = getWidth();
+        layerHeight = getHeight();
+        layersNative = nativeResolution;
+
+        // static layer
+        if (resized || backgroundLoaded != ApplicationSettings.loadBackgroundProperty().get()) {
+            if (backgroundLoaded != ApplicationSettings.loadBackgroundProperty().get()) {
+                loadBackground();
+            }
+            final var backgroundGc = backgroundLayer.getGraphicsContext2D();
+            clearLayer(backgroundGc);
+            drawBackground(backgroundGc);
+            drawBorder(backgroundGc);
+        }
+
+        // sprite layer, the backend clears the game bounds itself
         final var gc = getGraphicsContext2D();
-        gc.setTransform(new Affine(new Scale(scale, scale)));
+        if (resized) {
+            clearLayer(gc);
+            renderBackend.invalidate();
+        }
+        gc.setImageSmoothing(!nativeResolution && !renderBackend.isNativeResolution());
+        renderBackend.setTextureScale(nativeResolution ? 1 : getScale());
+        if (nativeResolution && !renderBackend.isNativeResolution()) {
+            // the framebuffer replaces the backend, which has to redraw everything once it is used again
+            renderBackend.invalidate();
+            gc.clearRect(ORIGINAL_GAME_BOUNDS.getMinX(), ORIGINAL_GAME_BOUNDS.getMinY(),
+                ORIGINAL_GAME_BOUNDS.getWidth(), ORIGINAL_GAME_BOUNDS.getHeight());
+            gc.drawImage(framebuffer.draw(getRenderedSprites(), interpolationAlpha), ORIGINAL_GAME_BOUNDS.getMinX(),
+                ORIGINAL_GAME_BOUNDS.getMinY(), ORIGINAL_GAME_BOUNDS.getWidth(), ORIGINAL_GAME_BOUNDS.getHeight());
+        } else {
+            drawSprites(gc);
+        }
 
-        drawBackground(gc);
-        drawSprites(gc);
-        drawHUD(gc);
-        drawBorder(gc);
+        // HUD layer
+        if (resized || getDisplayedScore() != hudScore || getDisplayedHealth() != hudHealth) {
+            final var hudGc = hudLayer.getGraphicsContext2D();
+            clearLayer(hudGc);
+            drawHUD(hudGc);
+        }
+
+        // the rendered tick is visible from now on
+        final long tick = snapshot != null ? snapshot.getTick() : simulation != null ? simulation.getTickCount() : 0;
+        event.end();
+        if (event.shouldCommit()) {
+            event.tick = tick;
+            event.spriteCount = snapshot != null
+                ? snapshot.getSprites().size()
+                : getGameController().getGameState().getSprites().size();
+            event.drawCalls = renderBackend.getDrawCalls();
+            event.stateChanges = renderBackend.getStateChanges();
+            event.backend = renderBackendType.name();
+            event.commit();
+        }
+        final GameInputHandler gameInputHandler = getGameController().getGameInputHandler();
+        if (gameInputHandler != null) {
+            gameInputHandler.getInputLatency().rendered(tick, System.nanoTime());
+            debugOverlay.update(elapsedTime, gameInputHandler.getInputLatency(),
+                getGameController().getPerformanceMonitor());
+        }
     }
 
     /**
@@ -126,7 +447,8 @@ public class GameBoard extends Canvas implements Updatable {
 
     /**
      * Draws the sprites of this {@link GameBoard} to the given
-     * {@link GraphicsContext} using the {@link SpriteRenderer} class.
+     * {@link GraphicsContext} using the {@link RenderBackend}, which clears the
+     * {@link GameConstants#ORIGINAL_GAME_BOUNDS} first.
      * <br>
      * The sprites are drawn in the following order (from bottom to top):
      * <ol>
@@ -135,41 +457,33 @@ public class GameBoard extends Canvas implements Updatable {
      * <li>Player</li>
      * <li>Others (currently none)</li>
      * </ol>
+     * Within each layer, sprites with the same texture or color are drawn after each other. The sprites are drawn at their
+     * positions interpolated between the last two simulation ticks. If the simulation runs on its own thread, the sprites of
+     * the latest {@link GameSnapshot} are drawn instead of the live sprites.
      *
      * @param gc The {@link GraphicsContext} to draw the sprites to.
      */
     private void drawSprites(final GraphicsContext gc) {
-        List<Sprite> sprites = getGameController().getGameState().getSprites().stream().toList();
-
-        for (Sprite sprite : sprites) {
-            if (sprite instanceof Bullet) {
-                SpriteRenderer.renderSprite(gc, sprite);
-            }
-        }
-
-        for (Sprite sprite : sprites) {
-            if (sprite instanceof Enemy) {
-                SpriteRenderer.renderSprite(gc, sprite);
-            }
-        }
-
-        for (Sprite sprite : sprites) {
-            if (sprite instanceof Player) {
-                SpriteRenderer.renderSprite(gc, sprite);
-            }
-        }
+        renderBackend.render(gc, getRenderedSprites(), interpolationAlpha);
+    }
 
-        for (Sprite sprite : sprites) {
-            if (!(sprite instanceof Bullet) && !(sprite instanceof Enemy) && !(sprite instanceof Player)) {
-                SpriteRenderer.renderSprite(gc, sprite);
-            }
-        }
+    /**
+     * Gets the sprites that are drawn in the current frame: the sprites of the latest {@link GameSnapshot} if the simulation
+     * runs on its own thread, the live sprites otherwise.
+     *
+     * @return The sprites to draw.
+     */
+    private Collection<? extends Renderable> getRenderedSprites() {
+        final GameSnapshot snapshot = getGameController().getSnapshot();
+        return snapshot != null ? snapshot.getSprites() : getGameController().getGameState().getSprites();
     }
 
     /**
      * Draws the Heads-Up-Display (HUD) of this {@link GameBoard} to the given
      * {@link GraphicsContext}.
      * <br>
+     * The texts are composed from a {@link GlyphAtlas} and only recomposed when the score or the lives change.
+     * <br>
      * The HUD contains the following information:
      * <ul>
      * <li>Player Score (top left)</li>
@@ -181,21 +495,31 @@ public class GameBoard extends Canvas implements Updatable {
      *
      */
     private void drawHUD(final GraphicsContext gc) {
-        String scoreString = "Score: "+ gameScene.getController().getPlayer().getScore();
-        Text scoreText = new Text(scoreString);
-        scoreText.setFont(HUD_FONT);
+        final double scale = getRenderScale();
+        final int score = getDisplayedScore();
+        final int health = getDisplayedHealth();
 
-        String livesString = "Lives: "+ gameScene.getController().getPlayer().getHealth();
-        Text livesText = new Text(livesString);
-        livesText.setFont(HUD_FONT);
-
-        gc.setFont(HUD_FONT);
-        gc.setFill(HUD_TEXT_COLOR);
+        // the atlas is only rasterized on resize, the texts are only composed when they change
+        if (hudAtlas == null || hudAtlas.getScale() != scale) {
+            hudAtlas = new GlyphAtlas(HUD_FONT, HUD_TEXT_COLOR, scale);
+            scoreStrip = null;
+            livesStrip = null;
+        }
+        if (scoreStrip == null || score != hudScore) {
+            scoreStrip = hudAtlas.compose("Score: " + score);
+            hudScore = score;
+        }
+        if (livesStrip == null || health != hudHealth) {
+            livesStrip = hudAtlas.compose("Lives: " + health);
+            hudHealth = health;
+        }
 
-        gc.fillText(scoreString, ORIGINAL_GAME_BOUNDS.getMinX() + HUD_PADDING,
-            ORIGINAL_GAME_BOUNDS.getMinY() + scoreText.getLayoutBounds().getHeight() + HUD_PADDING);
-        gc.fillText(livesString, ORIGINAL_GAME_BOUNDS.getMaxX() - livesText.getLayoutBounds().getWidth() - HUD_PADDING,
-            ORIGINAL_GAME_BOUNDS.getMinY() + livesText.getLayoutBounds().getHeight() + HUD_PADDING);
+        final double height = scoreStrip.getHeight() / scale;
+        final double y = ORIGINAL_GAME_BOUNDS.getMinY() + HUD_PADDING + height - hudAtlas.getBaselineOffset();
+        gc.drawImage(scoreStrip, ORIGINAL_GAME_BOUNDS.getMinX() + HUD_PADDING, y,
+            scoreStrip.getWidth() / scale, height);
+        gc.drawImage(livesStrip, ORIGINAL_GAME_BOUNDS.getMaxX() - livesStrip.getWidth() / scale - HUD_PADDING, y,
+            livesStrip.getWidth() / scale, height);
     }
 
     /**
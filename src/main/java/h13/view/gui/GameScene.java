@@ -27,7 +27,7 @@ public class GameScene extends Scene implements ControlledScene<GameController>
 
     /**
      * The {@link GameBoard} of this Scene.
-     * This is the only Node that is added to the root Node.
+     * It is added to the root Node together with its background and HUD layers and its debug overlay.
      *
      * @see GameBoard
      */
@@ -104,6 +104,6 @@ public class GameScene extends Scene implements ControlledScene<GameController>
         gameBoard.translateXProperty().bind(widthProperty().subtract(gameBoard.widthProperty()).divide(2.0));
         gameBoard.translateYProperty().bind(heightProperty().subtract(gameBoard.heightProperty()).divide(2.0));
 
-        root.getChildren().add(gameBoard);
+        root.getChildren().addAll(gameBoard.getBackgroundLayer(), gameBoard, gameBoard.getHudLayer(), gameBoard.getDebugOverlay());
     }
 }
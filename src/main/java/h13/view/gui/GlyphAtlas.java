@@ -0,0 +1,176 @@
+package h13.view.gui;
+
+import javafx.geometry.Bounds;
+import javafx.geometry.VPos;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+/**
+ * A {@link GlyphAtlas} contains the printable ASCII glyphs of a {@link Font}, rasterized once into a grid of cells in a
+ * single image.
+ * <br>
+ * Strings are composed from the atlas by copying the pixels of their glyphs, so no text layout or font rasterization is
+ * needed after the atlas was built. The atlas is rasterized at a given scale, so it stays sharp when the game board is
+ * scaled up. Must be used on the JavaFX application thread.
+ */
+public class GlyphAtlas {
+
+    /**
+     * The first character in the atlas.
+     */
+    private static final char FIRST_CHAR = ' ';
+
+    /**
+     * The last character in the atlas.
+     */
+    private static final char LAST_CHAR = '~';
+
+    /**
+     * The amount of cells per row of the atlas, which keeps the atlas image roughly square.
+     */
+    private static final int COLUMNS = 16;
+
+    // --Variables-- //
+
+    /**
+     * The scale the glyphs were rasterized at.
+     */
+    private final double scale;
+
+    /**
+     * The offset of the baseline from the top of a glyph, in unscaled units.
+     */
+    private final double baselineOffset;
+
+    /**
+     * The width of a cell in the atlas, in pixels.
+     */
+    private final int cellWidth;
+
+    /**
+     * The height of a cell in the atlas, in pixels.
+     */
+    private final int cellHeight;
+
+    /**
+     * The advance of each glyph, in pixels.
+     */
+    private final int[] advances = new int[LAST_CHAR - FIRST_CHAR + 1];
+
+    /**
+     * The rasterized glyphs, one cell per character.
+     */
+    private final PixelReader pixels;
+
+    // --Constructors-- //
+
+    /**
+     * Creates a new {@link GlyphAtlas} and rasterizes all glyphs.
+     *
+     * @param font  The font to rasterize, in unscaled size.
+     * @param fill  The fill of the glyphs.
+     * @param scale The scale to rasterize the glyphs at.
+     */
+    public GlyphAtlas(final Font font, final Paint fill, final double scale) {
+        this.scale = scale;
+        final Font scaledFont = Font.font(font.getFamily(), font.getSize() * scale);
+
+        // measure
+        final Text text = new Text();
+        text.setFont(scaledFont);
+        int maxWidth = 1;
+        int maxHeight = 1;
+        for (char c = FIRST_CHAR; c <= LAST_CHAR; c++) {
+            text.setText(String.valueOf(c));
+            final Bounds bounds = text.getLayoutBounds();
+            advances[c - FIRST_CHAR] = (int) Math.ceil(bounds.getWidth());
+            maxWidth = Math.max(maxWidth, advances[c - FIRST_CHAR]);
+            maxHeight = Math.max(maxHeight, (int) Math.ceil(bounds.getHeight()));
+        }
+        baselineOffset = text.getBaselineOffset() / scale;
+        cellWidth = maxWidth;
+        cellHeight = maxHeight;
+
+        // rasterize
+        final int rows = (advances.length + COLUMNS - 1) / COLUMNS;
+        final Canvas canvas = new Canvas(cellWidth * COLUMNS, cellHeight * rows);
+        final GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setFont(scaledFont);
+        gc.setFill(fill);
+        gc.setTextBaseline(VPos.TOP);
+        for (char c = FIRST_CHAR; c <= LAST_CHAR; c++) {
+            final int index = c - FIRST_CHAR;
+            gc.fillText(String.valueOf(c), index % COLUMNS * cellWidth, index / COLUMNS * cellHeight);
+        }
+        final SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        pixels = canvas.snapshot(parameters, null).getPixelReader();
+    }
+
+    // --Getters and Setters-- //
+
+    /**
+     * Gets the value of {@link #scale} field.
+     *
+     * @return The value of {@link #scale} field.
+     * @see #scale
+     */
+    public double getScale() {
+        return scale;
+    }
+
+    /**
+     * Gets the value of {@link #baselineOffset} field.
+     *
+     * @return The value of {@link #baselineOffset} field.
+     * @see #baselineOffset
+     */
+    public double getBaselineOffset() {
+        return baselineOffset;
+    }
+
+    // --Methods-- //
+
+    /**
+     * Composes the given string from the atlas. Characters outside the atlas are rendered as spaces.
+     * The resulting image is in scaled pixels, so it has to be drawn with a size of {@code width / scale} and
+     * {@code height / scale} in unscaled units.
+     *
+     * @param string The string to compose.
+     * @return The composed image.
+     */
+    public WritableImage compose(final String string) {
+        int width = 0;
+        for (int i = 0; i < string.length(); i++) {
+            width += advances[indexOf(string.charAt(i))];
+        }
+        final WritableImage image = new WritableImage(Math.max(1, width), cellHeight);
+        int x = 0;
+        for (int i = 0; i < string.length(); i++) {
+            final int index = indexOf(string.charAt(i));
+            if (advances[index] > 0) {
+                image.getPixelWriter().setPixels(x, 0, advances[index], cellHeight, pixels,
+                    index % COLUMNS * cellWidth, index / COLUMNS * cellHeight);
+            }
+            x += advances[index];
+        }
+        return image;
+    }
+
+    /**
+     * Gets the index of the cell of the given character.
+     *
+     * @param c The character.
+     * @return The index of the cell.
+     */
+    private static int indexOf(final char c) {
+        return c < FIRST_CHAR || c > LAST_CHAR ? 0 : c - FIRST_CHAR;
+    }
+}
@@ -4,8 +4,10 @@ import h13.controller.GameConstants;
 import h13.controller.scene.menu.MainMenuController;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.concurrent.Task;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.VBox;
 
@@ -84,5 +86,18 @@ public class MainMenuScene extends MenuScene<MainMenuController> {
                 button.setPrefSize(200, 50);
                 //button.setMaxSize(Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY);
             });
+
+        // asset preloading status, the progress bar is hidden once everything is loaded, the label keeps the loading time
+        final Task<Long> preloadTask = getController().preloadAssets();
+        final var progressBar = new ProgressBar();
+        progressBar.setPrefSize(200, 10);
+        progressBar.progressProperty().bind(preloadTask.progressProperty());
+        final var progressLabel = new Label();
+        progressLabel.textProperty().bind(preloadTask.messageProperty());
+        final var progressVbox = new VBox(progressBar, progressLabel);
+        progressVbox.setAlignment(Pos.CENTER);
+        progressVbox.setPadding(new Insets(10, 10, 10, 10));
+        progressBar.visibleProperty().bind(preloadTask.progressProperty().lessThan(1));
+        root.setBottom(progressVbox);
     }
 }
@@ -0,0 +1,60 @@
+package h13.view.gui;
+
+import h13.model.gameplay.Renderable;
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.WritableImage;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+
+/**
+ * A {@link NativeFramebuffer} is an offscreen surface with the native resolution of the
+ * {@link h13.controller.GameConstants#ORIGINAL_GAME_BOUNDS}, one pixel per game unit.
+ * <br>
+ * A frame is rasterized in software straight into a {@link PixelBuffer} that is shared with a reused {@link WritableImage},
+ * the same way the {@link SoftwareRenderBackend} does it. Nothing is drawn to an offscreen canvas and read back, so a frame
+ * costs no extra render pass. The image can then be blitted to the screen with a single nearest-neighbour scaled draw
+ * call, and the cost of drawing a frame does therefore not depend on the size of the window. Must be used on the JavaFX
+ * application thread.
+ */
+public class NativeFramebuffer {
+
+    // --Variables-- //
+
+    /**
+     * The rasterizer that writes the frames into its image.
+     */
+    private final SoftwareRenderBackend rasterizer = new SoftwareRenderBackend();
+
+    /**
+     * The last frame, reused as long as the native resolution does not change.
+     */
+    private @Nullable WritableImage image;
+
+    // --Getters and Setters-- //
+
+    /**
+     * Gets the value of {@link #image} field.
+     *
+     * @return The value of {@link #image} field, or {@code null} if no frame was drawn yet.
+     * @see #image
+     */
+    public @Nullable WritableImage getImage() {
+        return image;
+    }
+
+    // --Methods-- //
+
+    /**
+     * Rasterizes a new frame with the given sprites into the {@link #image}.
+     *
+     * @param sprites The sprites to draw.
+     * @param alpha   The fraction of the current simulation tick the sprites are
+     *                {@linkplain Renderable#getInterpolatedX(double) interpolated} at.
+     * @return The finished frame.
+     */
+    public WritableImage draw(final Collection<? extends Renderable> sprites, final double alpha) {
+        image = rasterizer.rasterize(sprites, alpha);
+        return image;
+    }
+}
@@ -0,0 +1,121 @@
+package h13.view.gui;
+
+import h13.model.gameplay.Renderable;
+import javafx.scene.canvas.GraphicsContext;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * A {@link RenderBackend} draws the {@linkplain Renderable sprites} of a frame for the {@link GameBoard}.
+ * <br>
+ * The {@link GameBoard} selects its backend with {@link h13.controller.GameConstants#RENDER_BACKEND}.
+ */
+public interface RenderBackend {
+
+    /**
+     * The available {@linkplain RenderBackend render backends}.
+     */
+    enum Type {
+        // --Enum Constants-- //
+
+        /**
+         * Draws every sprite with its own {@link GraphicsContext} call.
+         *
+         * @see CanvasRenderBackend
+         */
+        CANVAS(CanvasRenderBackend::new),
+        /**
+         * Rasterizes the sprites in software and uploads the result once per frame.
+         *
+         * @see SoftwareRenderBackend
+         */
+        SOFTWARE(SoftwareRenderBackend::new),
+        /**
+         * Only redraws the regions of the board that changed since the last frame.
+         *
+         * @see DirtyRectRenderBackend
+         */
+        DIRTY_RECT(DirtyRectRenderBackend::new);
+
+        // --Variables-- //
+
+        /**
+         * Creates a new instance of the backend.
+         */
+        private final Supplier<RenderBackend> factory;
+
+        // --Constructors-- //
+
+        /**
+         * Creates a new {@link Type}.
+         *
+         * @param factory Creates a new instance of the backend.
+         */
+        Type(final Supplier<RenderBackend> factory) {
+            this.factory = factory;
+        }
+
+        // --Methods-- //
+
+        /**
+         * Creates a new instance of the backend.
+         *
+         * @return The created backend.
+         */
+        public RenderBackend create() {
+            return factory.get();
+        }
+    }
+
+    /**
+     * Clears the {@link h13.controller.GameConstants#ORIGINAL_GAME_BOUNDS} of the given {@link GraphicsContext} and draws
+     * the given sprites to it, from bottom to top: bullets, enemies, player, others.
+     *
+     * @param gc      The {@link GraphicsContext} to draw to. Its transform maps game coordinates to the canvas.
+     * @param sprites The sprites to draw.
+     * @param alpha   The fraction of the current simulation tick the sprites are
+     *                {@linkplain Renderable#getInterpolatedX(double) interpolated} at.
+     */
+    void render(GraphicsContext gc, Collection<? extends Renderable> sprites, double alpha);
+
+    /**
+     * Notifies the backend that the content of the canvas it draws to was lost, so the next frame has to be drawn
+     * completely. Backends that always draw the complete frame can ignore it.
+     */
+    default void invalidate() {
+    }
+
+    /**
+     * Sets the scale from game units to pixels of the canvas the backend draws to, so textures can be pre-scaled to the size
+     * they cover. Backends that do not draw textures with the {@link GraphicsContext} can ignore it.
+     *
+     * @param scale The scale factor.
+     */
+    default void setTextureScale(final double scale) {
+    }
+
+    /**
+     * Checks whether this backend already produces an image at the native resolution of the game, so it does not need to
+     * be drawn to a {@link NativeFramebuffer} first.
+     *
+     * @return {@code true} if the output has native resolution, {@code false} otherwise.
+     */
+    default boolean isNativeResolution() {
+        return false;
+    }
+
+    /**
+     * Gets the amount of {@link GraphicsContext} draw calls of the last frame.
+     *
+     * @return The amount of draw calls.
+     */
+    int getDrawCalls();
+
+    /**
+     * Gets the amount of {@link GraphicsContext} state changes of the last frame.
+     *
+     * @return The amount of state changes.
+     */
+    int getStateChanges();
+}
@@ -0,0 +1,192 @@
+package h13.view.gui;
+
+import h13.model.gameplay.Renderable;
+import h13.shared.TextureAtlas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Paint;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A {@link RenderQueue} collects the {@linkplain Renderable sprites} of a frame in a single pass and draws them with as few
+ * {@link GraphicsContext} state changes as possible.
+ * <br>
+ * The sprites are bucketed by layer (from bottom to top: bullets, enemies, player, others) and every layer is sorted by
+ * source image and fill color, so sprites sharing the same state are drawn after each other. The buckets are reused between frames.
+ */
+public class RenderQueue {
+
+    /**
+     * Orders sprites with a texture before sprites without one, and groups equal textures and equal colors.
+     */
+    private static final Comparator<Renderable> STATE_ORDER = Comparator
+        .comparingInt((Renderable s) -> s.getTexture() != null ? 0 : 1)
+        .thenComparingInt(s -> s.getTexture() != null ? System.identityHashCode(sourceOf(s)) : Objects.hashCode(s.getColor()));
+
+    /**
+     * The amount of layers.
+     */
+    private static final int LAYER_COUNT = Renderable.LAYER_OTHERS + 1;
+
+    // --Variables-- //
+
+    /**
+     * The sprites of each layer, from bottom to top.
+     */
+    private final List<List<Renderable>> layers = new ArrayList<>(LAYER_COUNT);
+
+    /**
+     * The pre-scaled variants of the textures.
+     */
+    private final TextureVariants textureVariants = new TextureVariants();
+
+    /**
+     * The amount of draw calls issued by the last {@link #render(GraphicsContext, double)}.
+     */
+    private int drawCalls;
+
+    /**
+     * The amount of state changes issued by the last {@link #render(GraphicsContext, double)}.
+     */
+    private int stateChanges;
+
+    // --Constructors-- //
+
+    /**
+     * Creates a new, empty {@link RenderQueue}.
+     */
+    public RenderQueue() {
+        for (int i = 0; i < LAYER_COUNT; i++) {
+            layers.add(new ArrayList<>());
+        }
+    }
+
+    // --Getters and Setters-- //
+
+    /**
+     * Gets the value of {@link #drawCalls} field.
+     *
+     * @return The value of {@link #drawCalls} field.
+     * @see #drawCalls
+     */
+    public int getDrawCalls() {
+        return drawCalls;
+    }
+
+    /**
+     * Gets the value of {@link #stateChanges} field.
+     *
+     * @return The value of {@link #stateChanges} field.
+     * @see #stateChanges
+     */
+    public int getStateChanges() {
+        return stateChanges;
+    }
+
+    /**
+     * Gets the value of {@link #textureVariants} field.
+     *
+     * @return The value of {@link #textureVariants} field.
+     * @see #textureVariants
+     */
+    public TextureVariants getTextureVariants() {
+        return textureVariants;
+    }
+
+    // --Utility Methods-- //
+
+    /**
+     * Gets the image the texture of the given {@link Renderable} is drawn from, which is the sprite atlas if the texture is
+     * part of it.
+     *
+     * @param sprite The sprite.
+     * @return The source image, or {@code null} if the sprite has no texture.
+     */
+    private static @Nullable Image sourceOf(final Renderable sprite) {
+        final TextureAtlas.Region region = sprite.getTextureRegion();
+        return region != null ? region.image() : sprite.getTexture();
+    }
+
+    // --Methods-- //
+
+    /**
+     * Replaces the content of the queue with the given sprites and sorts every layer by state.
+     *
+     * @param sprites The sprites of the frame.
+     */
+    public void build(final Collection<? extends Renderable> sprites) {
+        for (final List<Renderable> layer : layers) {
+            layer.clear();
+        }
+        for (final Renderable sprite : sprites) {
+            layers.get(sprite.getRenderLayer()).add(sprite);
+        }
+        for (final List<Renderable> layer : layers) {
+            layer.sort(STATE_ORDER);
+        }
+    }
+
+    /**
+     * Performs the given action for every queued sprite, in drawing order.
+     *
+     * @param action The action to perform.
+     */
+    public void forEach(final Consumer<? super Renderable> action) {
+        for (final List<Renderable> layer : layers) {
+            for (int i = 0; i < layer.size(); i++) {
+                action.accept(layer.get(i));
+            }
+        }
+    }
+
+    /**
+     * Draws the queued sprites to the given {@link GraphicsContext}, only changing the fill when it differs from the
+     * previous sprite. Textures are drawn from their {@linkplain TextureAtlas atlas region} or, once it is ready, from the
+     * region of their {@linkplain TextureVariants pre-scaled variant}, so sprites with different textures share one source image.
+     * Updates {@link #drawCalls} and {@link #stateChanges}.
+     *
+     * @param gc    The {@link GraphicsContext} to draw the sprites to.
+     * @param alpha The fraction of the current simulation tick the sprites are
+     *              {@linkplain Renderable#getInterpolatedX(double) interpolated} at.
+     */
+    public void render(final GraphicsContext gc, final double alpha) {
+        drawCalls = 0;
+        stateChanges = 0;
+        @Nullable Image currentTexture = null;
+        @Nullable Paint currentFill = null;
+        for (final List<Renderable> layer : layers) {
+            for (int i = 0; i < layer.size(); i++) {
+                final Renderable s = layer.get(i);
+                final double x = s.getInterpolatedX(alpha);
+                final double y = s.getInterpolatedY(alpha);
+                final Image texture = s.getTexture();
+                if (texture != null) {
+                    final TextureAtlas.Region region = s.getTextureRegion() != null
+                        ? textureVariants.get(s.getTextureRegion(), s.getWidth(), s.getHeight())
+                        : textureVariants.get(texture, s.getWidth(), s.getHeight());
+                    if (region.image() != currentTexture) {
+                        currentTexture = region.image();
+                        stateChanges++;
+                    }
+                    gc.drawImage(region.image(), region.x(), region.y(), region.width(), region.height(),
+                        x, y, s.getWidth(), s.getHeight());
+                } else {
+                    if (currentFill == null || !currentFill.equals(s.getColor())) {
+                        currentFill = s.getColor();
+                        gc.setFill(currentFill);
+                        stateChanges++;
+                    }
+                    gc.fillRect(x, y, s.getWidth(), s.getHeight());
+                }
+                drawCalls++;
+            }
+        }
+    }
+}
@@ -52,6 +52,9 @@ public class SettingsScene extends SubMenuScene<SettingsController, TabPane> {
         // Checkbox for loadBackground
         this.getController().loadBackgroundCheckBox = new CheckBox("Load background");
 
+        // Checkbox for nativeResolution
+        this.getController().nativeResolutionCheckBox = new CheckBox("Render at native resolution (pixel-perfect upscaling)");
+
 
         // Adding all elements to vBox
         final var settingsTab1 = new Tab();
@@ -66,6 +69,8 @@ public class SettingsScene extends SubMenuScene<SettingsController, TabPane> {
         settingsTab5.setContent(this.getController().loadTexturesCheckBox);
         final var settingsTab6 = new Tab();
         settingsTab6.setContent(this.getController().loadBackgroundCheckBox);
+        final var settingsTab7 = new Tab();
+        settingsTab7.setContent(this.getController().nativeResolutionCheckBox);
 
         getContentRoot().getTabs().add(settingsTab1);
         getContentRoot().getTabs().add(settingsTab2);
@@ -73,5 +78,6 @@ public class SettingsScene extends SubMenuScene<SettingsController, TabPane> {
         getContentRoot().getTabs().add(settingsTab4);
         getContentRoot().getTabs().add(settingsTab5);
         getContentRoot().getTabs().add(settingsTab6);
+        getContentRoot().getTabs().add(settingsTab7);
     }
 }
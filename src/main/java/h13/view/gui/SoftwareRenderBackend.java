@@ -0,0 +1,515 @@
+package h13.view.gui;
+
+import h13.model.gameplay.Renderable;
+import h13.shared.TextureAtlas;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static h13.controller.GameConstants.ORIGINAL_GAME_BOUNDS;
+import static h13.controller.GameConstants.SOFTWARE_RENDER_TILE_HEIGHT;
+
+/**
+ * A {@link RenderBackend} that rasterizes the sprites in software at the native resolution of the game.
+ * <br>
+ * The sprites are written directly into the {@link IntBuffer} of premultiplied ARGB pixels that backs the {@link PixelBuffer}
+ * of the drawn image. The board is split into horizontal tiles of
+ * {@link h13.controller.GameConstants#SOFTWARE_RENDER_TILE_HEIGHT} rows that are rasterized in parallel on the common
+ * {@link ForkJoinPool}. Every tile only writes its own rows with absolute puts, so the tiles never touch the same pixels.
+ * Only the region covered by the sprites of the current or the previous frame is cleared and uploaded, and the image is
+ * drawn with a single {@link GraphicsContext} call per frame.
+ * <br>
+ * Textures are decoded once per {@linkplain TextureAtlas.Region atlas region} and size into ARGB arrays. Untextured sprites use a solid fill path.
+ */
+public class SoftwareRenderBackend implements RenderBackend {
+
+    /**
+     * A texture decoded into premultiplied ARGB pixels at the size it is drawn with.
+     *
+     * @param width  The width in pixels.
+     * @param height The height in pixels.
+     * @param pixels The premultiplied ARGB pixels in row-major order.
+     */
+    private record Texture(int width, int height, int[] pixels) {
+    }
+
+    // --Variables-- //
+
+    /**
+     * The queue that sorts the sprites into drawing order.
+     */
+    private final RenderQueue renderQueue = new RenderQueue();
+
+    /**
+     * The decoded textures by their source region.
+     */
+    private final Map<TextureAtlas.Region, Texture> textures = new HashMap<>();
+
+    /**
+     * The regions that cover the whole of a texture that is not part of an atlas.
+     */
+    private final Map<Image, TextureAtlas.Region> wholeImages = new HashMap<>();
+
+    /**
+     * The pixels of the current frame, shared with the {@link #pixelBuffer}.
+     */
+    private @Nullable IntBuffer pixels;
+
+    /**
+     * The width of the frame in pixels.
+     */
+    private int width;
+
+    /**
+     * The height of the frame in pixels.
+     */
+    private int height;
+
+    /**
+     * The buffer that is shared with the {@link #image}.
+     */
+    private @Nullable PixelBuffer<IntBuffer> pixelBuffer;
+
+    /**
+     * The image that shows the {@link #pixelBuffer}.
+     */
+    private @Nullable WritableImage image;
+
+    /**
+     * The amount of queued sprites of the current frame.
+     */
+    private int spriteCount;
+
+    /**
+     * The x-coordinates of the queued sprites, in pixels.
+     */
+    private int[] spriteX = new int[0];
+
+    /**
+     * The y-coordinates of the queued sprites, in pixels.
+     */
+    private int[] spriteY = new int[0];
+
+    /**
+     * The widths of the queued sprites, in pixels.
+     */
+    private int[] spriteWidth = new int[0];
+
+    /**
+     * The heights of the queued sprites, in pixels.
+     */
+    private int[] spriteHeight = new int[0];
+
+    /**
+     * The premultiplied fill colors of the queued sprites without a texture.
+     */
+    private int[] spriteColor = new int[0];
+
+    /**
+     * The textures of the queued sprites, {@code null} for solid sprites.
+     */
+    private @Nullable Texture[] spriteTexture = new Texture[0];
+
+    /**
+     * The first column (inclusive) covered by the sprites of the current frame.
+     */
+    private int drawnMinX;
+
+    /**
+     * The first row (inclusive) covered by the sprites of the current frame.
+     */
+    private int drawnMinY;
+
+    /**
+     * The last column (exclusive) covered by the sprites of the current frame.
+     */
+    private int drawnMaxX;
+
+    /**
+     * The last row (exclusive) covered by the sprites of the current frame.
+     */
+    private int drawnMaxY;
+
+    /**
+     * The first column (inclusive) that has to be cleared, covered by the sprites of the previous frame.
+     */
+    private int clearMinX;
+
+    /**
+     * The first row (inclusive) that has to be cleared, covered by the sprites of the previous frame.
+     */
+    private int clearMinY;
+
+    /**
+     * The last column (exclusive) that has to be cleared, covered by the sprites of the previous frame.
+     */
+    private int clearMaxX;
+
+    /**
+     * The last row (exclusive) that has to be cleared, covered by the sprites of the previous frame.
+     */
+    private int clearMaxY;
+
+    // --Getters and Setters-- //
+
+    @Override
+    public boolean isNativeResolution() {
+        return true;
+    }
+
+    @Override
+    public int getDrawCalls() {
+        return 1;
+    }
+
+    @Override
+    public int getStateChanges() {
+        return 0;
+    }
+
+    /**
+     * Gets the amount of sprites that were rasterized in the last frame.
+     *
+     * @return The amount of rasterized sprites.
+     */
+    public int getSpriteCount() {
+        return spriteCount;
+    }
+
+    // --Utility Methods-- //
+
+    /**
+     * Converts the given color to a premultiplied ARGB value.
+     *
+     * @param color The color.
+     * @return The premultiplied ARGB value.
+     */
+    private static int toArgbPre(final Color color) {
+        final double a = color.getOpacity();
+        return premultiply(
+            (int) Math.round(a * 255) << 24
+                | (int) Math.round(color.getRed() * 255) << 16
+                | (int) Math.round(color.getGreen() * 255) << 8
+                | (int) Math.round(color.getBlue() * 255)
+        );
+    }
+
+    /**
+     * Premultiplies the given non-premultiplied ARGB value.
+     *
+     * @param argb The non-premultiplied ARGB value.
+     * @return The premultiplied ARGB value.
+     */
+    private static int premultiply(final int argb) {
+        final int a = argb >>> 24;
+        if (a == 0xFF) {
+            return argb;
+        }
+        final int r = (argb >> 16 & 0xFF) * a / 0xFF;
+        final int g = (argb >> 8 & 0xFF) * a / 0xFF;
+        final int b = (argb & 0xFF) * a / 0xFF;
+        return a << 24 | r << 16 | g << 8 | b;
+    }
+
+    /**
+     * Blends the given premultiplied source pixel over the given premultiplied destination pixel.
+     *
+     * @param src The source pixel.
+     * @param dst The destination pixel.
+     * @return The blended pixel.
+     */
+    private static int blend(final int src, final int dst) {
+        final int inverse = 0xFF - (src >>> 24);
+        final int a = (src >>> 24) + (dst >>> 24) * inverse / 0xFF;
+        final int r = (src >> 16 & 0xFF) + (dst >> 16 & 0xFF) * inverse / 0xFF;
+        final int g = (src >> 8 & 0xFF) + (dst >> 8 & 0xFF) * inverse / 0xFF;
+        final int b = (src & 0xFF) + (dst & 0xFF) * inverse / 0xFF;
+        return a << 24 | r << 16 | g << 8 | b;
+    }
+
+    /**
+     * Gets the given region decoded at the given size, decoding it with nearest-neighbour sampling if necessary.
+     *
+     * @param region The region of the texture.
+     * @param w      The width in pixels.
+     * @param h      The height in pixels.
+     * @return The decoded texture, or {@code null} if the image cannot be read.
+     */
+    private @Nullable Texture getTexture(final TextureAtlas.Region region, final int w, final int h) {
+        final Texture cached = textures.get(region);
+        if (cached != null && cached.width() == w && cached.height() == h) {
+            return cached;
+        }
+        final PixelReader reader = region.image().getPixelReader();
+        if (reader == null || region.width() <= 0 || region.height() <= 0) {
+            return null;
+        }
+        final int[] decoded = new int[w * h];
+        for (int y = 0; y < h; y++) {
+            final int sourceY = (int) (region.y() + (y + 0.5) * region.height() / h);
+            for (int x = 0; x < w; x++) {
+                final int sourceX = (int) (region.x() + (x + 0.5) * region.width() / w);
+                decoded[y * w + x] = premultiply(reader.getArgb(sourceX, sourceY));
+            }
+        }
+        final Texture result = new Texture(w, h, decoded);
+        textures.put(region, result);
+        return result;
+    }
+
+    /**
+     * Adapts the frame buffers to the current {@link h13.controller.GameConstants#ORIGINAL_GAME_BOUNDS}.
+     */
+    private void resize() {
+        final int w = (int) Math.ceil(ORIGINAL_GAME_BOUNDS.getWidth());
+        final int h = (int) Math.ceil(ORIGINAL_GAME_BOUNDS.getHeight());
+        if (image != null && w == width && h == height) {
+            return;
+        }
+        width = w;
+        height = h;
+        // direct buffers are zeroed, so nothing has to be cleared
+        pixels = ByteBuffer.allocateDirect(w * h * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+        pixelBuffer = new PixelBuffer<>(w, h, pixels, PixelFormat.getIntArgbPreInstance());
+        image = new WritableImage(pixelBuffer);
+        drawnMinX = drawnMinY = drawnMaxX = drawnMaxY = 0;
+    }
+
+    /**
+     * Captures the position and appearance of the given sprites, so the tiles do not need to access the sprites.
+     *
+     * @param sprites The sprites to capture.
+     * @param alpha   The fraction of the current tick the sprites are interpolated at.
+     */
+    private void capture(final Collection<? extends Renderable> sprites, final double alpha) {
+        clearMinX = drawnMinX;
+        clearMinY = drawnMinY;
+        clearMaxX = drawnMaxX;
+        clearMaxY = drawnMaxY;
+        drawnMinX = width;
+        drawnMinY = height;
+        drawnMaxX = 0;
+        drawnMaxY = 0;
+        renderQueue.build(sprites);
+        if (spriteX.length < sprites.size()) {
+            final int capacity = Math.max(sprites.size(), spriteX.length * 2);
+            spriteX = new int[capacity];
+            spriteY = new int[capacity];
+            spriteWidth = new int[capacity];
+            spriteHeight = new int[capacity];
+            spriteColor = new int[capacity];
+            spriteTexture = new Texture[capacity];
+        }
+        spriteCount = 0;
+        renderQueue.forEach(sprite -> {
+            final int i = spriteCount++;
+            spriteX[i] = (int) Math.round(sprite.getInterpolatedX(alpha) - ORIGINAL_GAME_BOUNDS.getMinX());
+            spriteY[i] = (int) Math.round(sprite.getInterpolatedY(alpha) - ORIGINAL_GAME_BOUNDS.getMinY());
+            spriteWidth[i] = (int) Math.round(sprite.getWidth());
+            spriteHeight[i] = (int) Math.round(sprite.getHeight());
+            final Image texture = sprite.getTexture();
+            if (texture == null) {
+                spriteTexture[i] = null;
+            } else {
+                final TextureAtlas.Region region = sprite.getTextureRegion() != null
+                    ? sprite.getTextureRegion()
+                    : wholeImages.computeIfAbsent(texture, TextureAtlas.Region::of);
+                spriteTexture[i] = getTexture(region, spriteWidth[i], spriteHeight[i]);
+            }
+            spriteColor[i] = sprite.getColor() != null ? toArgbPre(sprite.getColor()) : 0;
+            drawnMinX = Math.min(drawnMinX, Math.max(0, spriteX[i]));
+            drawnMinY = Math.min(drawnMinY, Math.max(0, spriteY[i]));
+            drawnMaxX = Math.max(drawnMaxX, Math.min(width, spriteX[i] + spriteWidth[i]));
+            drawnMaxY = Math.max(drawnMaxY, Math.min(height, spriteY[i] + spriteHeight[i]));
+        });
+    }
+
+    /**
+     * Gets the region of the {@link #pixelBuffer} that changed in the current frame, i.e. the region covered by the sprites
+     * of the current or the previous frame.
+     *
+     * @return The changed region, or {@link Rectangle2D#EMPTY} if no pixel changed.
+     */
+    private Rectangle2D getDirtyRegion() {
+        final boolean cleared = clearMinX < clearMaxX && clearMinY < clearMaxY;
+        final boolean drawn = drawnMinX < drawnMaxX && drawnMinY < drawnMaxY;
+        if (!cleared && !drawn) {
+            return Rectangle2D.EMPTY;
+        }
+        final int minX = !drawn ? clearMinX : !cleared ? drawnMinX : Math.min(clearMinX, drawnMinX);
+        final int minY = !drawn ? clearMinY : !cleared ? drawnMinY : Math.min(clearMinY, drawnMinY);
+        final int maxX = !drawn ? clearMaxX : !cleared ? drawnMaxX : Math.max(clearMaxX, drawnMaxX);
+        final int maxY = !drawn ? clearMaxY : !cleared ? drawnMaxY : Math.max(clearMaxY, drawnMaxY);
+        return new Rectangle2D(minX, minY, maxX - minX, maxY - minY);
+    }
+
+    /**
+     * Clears the given rows where the previous frame drew and rasterizes all captured sprites that overlap them.
+     *
+     * @param fromRow The first row (inclusive).
+     * @param toRow   The last row (exclusive).
+     */
+    private void rasterize(final int fromRow, final int toRow) {
+        for (int y = Math.max(fromRow, clearMinY); y < Math.min(toRow, clearMaxY); y++) {
+            final int row = y * width;
+            for (int x = clearMinX; x < clearMaxX; x++) {
+                pixels.put(row + x, 0);
+            }
+        }
+        for (int i = 0; i < spriteCount; i++) {
+            final int minY = Math.max(fromRow, spriteY[i]);
+            final int maxY = Math.min(toRow, spriteY[i] + spriteHeight[i]);
+            final int minX = Math.max(0, spriteX[i]);
+            final int maxX = Math.min(width, spriteX[i] + spriteWidth[i]);
+            if (minY >= maxY || minX >= maxX) {
+                continue;
+            }
+            final Texture texture = spriteTexture[i];
+            if (texture == null) {
+                fill(minX, minY, maxX, maxY, spriteColor[i]);
+            } else {
+                blit(texture, spriteX[i], spriteY[i], minX, minY, maxX, maxY);
+            }
+        }
+    }
+
+    /**
+     * Fills the given rectangle with the given color.
+     *
+     * @param minX  The first column (inclusive).
+     * @param minY  The first row (inclusive).
+     * @param maxX  The last column (exclusive).
+     * @param maxY  The last row (exclusive).
+     * @param color The premultiplied color.
+     */
+    private void fill(final int minX, final int minY, final int maxX, final int maxY, final int color) {
+        final int alpha = color >>> 24;
+        if (alpha == 0) {
+            return;
+        }
+        for (int y = minY; y < maxY; y++) {
+            final int row = y * width;
+            for (int x = minX; x < maxX; x++) {
+                pixels.put(row + x, alpha == 0xFF ? color : blend(color, pixels.get(row + x)));
+            }
+        }
+    }
+
+    /**
+     * Draws the visible part of the given texture.
+     *
+     * @param texture The texture.
+     * @param originX The column of the top left corner of the texture.
+     * @param originY The row of the top left corner of the texture.
+     * @param minX    The first visible column (inclusive).
+     * @param minY    The first visible row (inclusive).
+     * @param maxX    The last visible column (exclusive).
+     * @param maxY    The last visible row (exclusive).
+     */
+    private void blit(final Texture texture, final int originX, final int originY,
+                      final int minX, final int minY, final int maxX, final int maxY) {
+        final int[] source = texture.pixels();
+        for (int y = minY; y < maxY; y++) {
+            final int row = y * width;
+            final int sourceRow = (y - originY) * texture.width() - originX;
+            for (int x = minX; x < maxX; x++) {
+                final int src = source[sourceRow + x];
+                final int alpha = src >>> 24;
+                if (alpha == 0xFF) {
+                    pixels.put(row + x, src);
+                } else if (alpha != 0) {
+                    pixels.put(row + x, blend(src, pixels.get(row + x)));
+                }
+            }
+        }
+    }
+
+    // --Methods-- //
+
+    /**
+     * Rasterizes the given sprites into the image without drawing it, so it can be drawn with any scale.
+     *
+     * @param sprites The sprites to rasterize.
+     * @param alpha   The fraction of the current tick the sprites are interpolated at.
+     * @return The image with the rasterized sprites, one pixel per game unit. It is reused by the next frame.
+     */
+    WritableImage rasterize(final Collection<? extends Renderable> sprites, final double alpha) {
+        resize();
+        capture(sprites, alpha);
+
+        // the tiles write into the buffer while JavaFX allows it and only the changed region is uploaded
+        pixelBuffer.updateBuffer(buffer -> {
+            final int tileHeight = Math.max(1, SOFTWARE_RENDER_TILE_HEIGHT);
+            ForkJoinPool.commonPool().invoke(new TileTask(0, (height + tileHeight - 1) / tileHeight, tileHeight));
+            return getDirtyRegion();
+        });
+        return image;
+    }
+
+    @Override
+    public void render(final GraphicsContext gc, final Collection<? extends Renderable> sprites, final double alpha) {
+        final WritableImage frame = rasterize(sprites, alpha);
+        gc.clearRect(ORIGINAL_GAME_BOUNDS.getMinX(), ORIGINAL_GAME_BOUNDS.getMinY(),
+            ORIGINAL_GAME_BOUNDS.getWidth(), ORIGINAL_GAME_BOUNDS.getHeight());
+        gc.drawImage(frame, ORIGINAL_GAME_BOUNDS.getMinX(), ORIGINAL_GAME_BOUNDS.getMinY(), width, height);
+    }
+
+    /**
+     * A {@link RecursiveAction} that rasterizes a range of tiles, splitting it until a single tile is left.
+     */
+    private class TileTask extends RecursiveAction {
+
+        /**
+         * The first tile (inclusive).
+         */
+        private final int fromTile;
+
+        /**
+         * The last tile (exclusive).
+         */
+        private final int toTile;
+
+        /**
+         * The height of a tile in rows.
+         */
+        private final int tileHeight;
+
+        /**
+         * Creates a new {@link TileTask}.
+         *
+         * @param fromTile   The first tile (inclusive).
+         * @param toTile     The last tile (exclusive).
+         * @param tileHeight The height of a tile in rows.
+         */
+        private TileTask(final int fromTile, final int toTile, final int tileHeight) {
+            this.fromTile = fromTile;
+            this.toTile = toTile;
+            this.tileHeight = tileHeight;
+        }
+
+        @Override
+        protected void compute() {
+            if (toTile - fromTile <= 1) {
+                rasterize(fromTile * tileHeight, Math.min(height, toTile * tileHeight));
+                return;
+            }
+            final int middle = (fromTile + toTile) >>> 1;
+            invokeAll(new TileTask(fromTile, middle, tileHeight), new TileTask(middle, toTile, tileHeight));
+        }
+    }
+}
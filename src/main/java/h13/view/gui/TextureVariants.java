@@ -0,0 +1,212 @@
+package h13.view.gui;
+
+import h13.shared.TextureAtlas;
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static h13.controller.GameConstants.TEXTURE_VARIANT_DEBOUNCE;
+
+/**
+ * {@link TextureVariants} caches sprite textures pre-scaled to the size they cover on screen, so drawing them is a 1:1 copy
+ * instead of a rescale on every {@code drawImage}.
+ * <br>
+ * A variant is identified by its source {@linkplain TextureAtlas.Region region} and the size (in game units) it is drawn
+ * with. Whenever the {@linkplain #setScale(double) scale} changes or an unknown variant is requested, the variants are
+ * decoded again from the source resource on a background thread and packed into a {@link TextureAtlas} of their own. Scale changes are debounced by {@link h13.controller.GameConstants#TEXTURE_VARIANT_DEBOUNCE},
+ * so resizing the window does not decode the textures on every step. Until a variant is ready, the source texture is used.
+ * <br>
+ * All methods except the background decoding are meant to be called on the JavaFX Application Thread.
+ */
+public class TextureVariants {
+
+    /**
+     * The size a texture is drawn with, in game units.
+     *
+     * @param source The source region. It always covers a whole source image.
+     * @param width  The width the texture is drawn with.
+     * @param height The height the texture is drawn with.
+     */
+    private record Key(TextureAtlas.Region source, double width, double height) {
+    }
+
+    /**
+     * The single background thread all variants are decoded on.
+     */
+    private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "texture-variants");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // --Variables-- //
+
+    /**
+     * The variants that are ready for the {@link #readyScale}.
+     */
+    private Map<Key, TextureAtlas.Region> variants = new HashMap<>();
+
+    /**
+     * The regions that cover the whole of a texture that is not part of an atlas.
+     */
+    private final Map<Image, TextureAtlas.Region> wholeImages = new HashMap<>();
+
+    /**
+     * All sizes that were requested so far.
+     */
+    private final Set<Key> requested = new HashSet<>();
+
+    /**
+     * The scale the variants are requested for.
+     */
+    private double scale = 1;
+
+    /**
+     * The scale the {@link #variants} were decoded for.
+     */
+    private double readyScale = Double.NaN;
+
+    /**
+     * The pending regeneration, if any.
+     */
+    private @Nullable ScheduledFuture<?> pending;
+
+    /**
+     * The generation of the latest regeneration. Results of older generations are discarded.
+     */
+    private long generation;
+
+    // --Getters and Setters-- //
+
+    /**
+     * Gets the value of {@link #scale} field.
+     *
+     * @return The value of {@link #scale} field.
+     * @see #scale
+     */
+    public double getScale() {
+        return scale;
+    }
+
+    /**
+     * Sets the scale from game units to screen pixels and regenerates the variants after the debounce delay if it changed.
+     *
+     * @param scale The new scale.
+     */
+    public void setScale(final double scale) {
+        if (scale == this.scale) {
+            return;
+        }
+        this.scale = scale;
+        regenerate(TEXTURE_VARIANT_DEBOUNCE);
+    }
+
+    // --Utility Methods-- //
+
+    /**
+     * Gets the pixel size of the given length in game units at the given scale.
+     *
+     * @param length The length in game units.
+     * @param scale  The scale.
+     * @return The pixel size, at least {@code 1}.
+     */
+    private static int toPixels(final double length, final double scale) {
+        return Math.max(1, (int) Math.round(length * scale));
+    }
+
+    /**
+     * Decodes the given variant from the resource of its source region.
+     *
+     * @param key   The variant.
+     * @param scale The scale.
+     * @return The decoded variant, or {@code null} if it cannot be decoded again.
+     */
+    private static @Nullable Image decode(final Key key, final double scale) {
+        final String url = key.source().url();
+        if (url == null) {
+            return null;
+        }
+        final Image variant = new Image(url, toPixels(key.width(), scale), toPixels(key.height(), scale), false, true);
+        return variant.isError() ? null : variant;
+    }
+
+    /**
+     * Schedules the regeneration of all {@link #requested} variants for the current {@link #scale}, replacing a pending one.
+     *
+     * @param delay The delay in seconds.
+     */
+    private void regenerate(final double delay) {
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        final long currentGeneration = ++generation;
+        final double targetScale = scale;
+        final Set<Key> keys = Set.copyOf(requested);
+        pending = EXECUTOR.schedule(() -> {
+            final Map<Key, Image> decoded = new HashMap<>();
+            for (final Key key : keys) {
+                final Image variant = decode(key, targetScale);
+                if (variant != null) {
+                    decoded.put(key, variant);
+                }
+            }
+            final Map<Key, TextureAtlas.Region> packed = new HashMap<>(TextureAtlas.pack(decoded));
+            for (final Key key : keys) {
+                packed.putIfAbsent(key, key.source());
+            }
+            Platform.runLater(() -> {
+                if (currentGeneration == generation) {
+                    variants = packed;
+                    readyScale = targetScale;
+                    pending = null;
+                }
+            });
+        }, (long) (delay * 1000), TimeUnit.MILLISECONDS);
+    }
+
+    // --Methods-- //
+
+    /**
+     * Gets the variant of the given texture, which is not part of an atlas, for the given size at the current scale.
+     *
+     * @param texture The source texture.
+     * @param width   The width the texture is drawn with, in game units.
+     * @param height  The height the texture is drawn with, in game units.
+     * @return The region of the pre-scaled variant, or a region covering the source texture if the variant is not ready yet.
+     */
+    public TextureAtlas.Region get(final Image texture, final double width, final double height) {
+        return get(wholeImages.computeIfAbsent(texture, TextureAtlas.Region::of), width, height);
+    }
+
+    /**
+     * Gets the variant of the given region for the given size at the current scale.
+     *
+     * @param region The source region. It has to cover a whole source image.
+     * @param width  The width the region is drawn with, in game units.
+     * @param height The height the region is drawn with, in game units.
+     * @return The region of the pre-scaled variant, or the source region if the variant is not ready yet.
+     */
+    public TextureAtlas.Region get(final TextureAtlas.Region region, final double width, final double height) {
+        final Key key = new Key(region, width, height);
+        if (readyScale == scale) {
+            final TextureAtlas.Region variant = variants.get(key);
+            if (variant != null) {
+                return variant;
+            }
+        }
+        requested.add(key);
+        if (pending == null) {
+            regenerate(0);
+        }
+        return region;
+    }
+}
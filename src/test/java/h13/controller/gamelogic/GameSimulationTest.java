@@ -0,0 +1,240 @@
+package h13.controller.gamelogic;
+
+import h13.controller.ApplicationSettings;
+import h13.model.gameplay.GameSnapshot;
+import h13.model.gameplay.GameState;
+import h13.model.gameplay.SpriteSnapshot;
+import h13.model.gameplay.sprites.Enemy;
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the headless {@link GameSimulation}.
+ */
+public class GameSimulationTest {
+
+    @BeforeEach
+    public void setup() {
+        ApplicationSettings.loadTexturesProperty().set(false);
+    }
+
+    @Test
+    public void testUpdateAccumulatesFixedTicks() {
+        final var simulation = new GameSimulation();
+        final double tickDuration = simulation.getTickDuration();
+
+        simulation.update(tickDuration / 2);
+        assertEquals(0, simulation.getTickCount());
+        simulation.update(tickDuration / 2);
+        assertEquals(1, simulation.getTickCount());
+        simulation.update(tickDuration * 3.5);
+        assertEquals(4, simulation.getTickCount());
+    }
+
+    @Test
+    public void testInterpolationAlphaAndPositions() {
+        final var simulation = new GameSimulation();
+        final double tickDuration = simulation.getTickDuration();
+
+        simulation.update(tickDuration * 1.25);
+        assertEquals(1, simulation.getTickCount());
+        assertEquals(0.25, simulation.getInterpolationAlpha(), 1e-9);
+
+        final var player = simulation.getPlayerController().getPlayer();
+        final double x = player.getX();
+        player.storePreviousPosition();
+        player.setX(x + 10);
+        assertEquals(x + 5, player.getInterpolatedX(0.5), 1e-9);
+        assertEquals(x + 10, player.getInterpolatedX(1), 1e-9);
+        player.clearPreviousPosition();
+        assertEquals(x + 10, player.getInterpolatedX(0), 1e-9);
+    }
+
+    @Test
+    public void testFormationEnemiesAreInterpolatedAtTheirAbsolutePosition() {
+        final var simulation = new GameSimulation();
+        final Enemy enemy = simulation.getGameState().getSprites().stream()
+            .filter(Enemy.class::isInstance).map(Enemy.class::cast).findFirst().orElseThrow();
+        assertNotNull(enemy.getFormation());
+
+        simulation.tick();
+        final double x0 = enemy.getX();
+        final double y0 = enemy.getY();
+        simulation.tick();
+        final double x1 = enemy.getX();
+        final double y1 = enemy.getY();
+        assertTrue(x0 != x1 || y0 != y1, "the formation should move");
+
+        assertEquals(x0, enemy.getInterpolatedX(0), 1e-9);
+        assertEquals(y0, enemy.getInterpolatedY(0), 1e-9);
+        assertEquals((x0 + x1) / 2, enemy.getInterpolatedX(0.5), 1e-9);
+        assertEquals((y0 + y1) / 2, enemy.getInterpolatedY(0.5), 1e-9);
+
+        final SpriteSnapshot snapshot = SpriteSnapshot.of(enemy);
+        assertEquals(x0, snapshot.getInterpolatedX(0), 1e-9);
+        assertEquals((x0 + x1) / 2, snapshot.getInterpolatedX(0.5), 1e-9);
+    }
+
+    @Test
+    public void testSnapshotIsDetachedFromLiveState() {
+        final var simulation = new GameSimulation();
+        simulation.tick();
+        final var snapshot = simulation.createSnapshot();
+        final var player = simulation.getPlayerController().getPlayer();
+
+        assertEquals(simulation.getGameState().getSprites().size(), snapshot.getSprites().size());
+        assertEquals(player.getScore(), snapshot.getScore());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getSprites().clear());
+
+        final double x = player.getX();
+        player.setX(x + 10);
+        final var playerSnapshot = snapshot.getSprites().stream().filter(s -> s.getRenderKey() == player).findFirst().orElseThrow();
+        assertEquals(x, playerSnapshot.getInterpolatedX(1), 1e-9);
+    }
+
+    @Test
+    public void testSnapshotsAreTripleBuffered() {
+        final var simulation = new GameSimulation();
+        final var simulationThread = new SimulationThread(simulation);
+        assertNull(simulationThread.acquireSnapshot());
+
+        simulationThread.publishSnapshot();
+        final var first = simulationThread.acquireSnapshot();
+        assertNotNull(first);
+        assertEquals(0, first.getTick());
+        assertEquals(simulation.getGameState().getSprites().size(), first.getSprites().size());
+
+        // the acquired snapshot is not touched by later ticks until the next acquire
+        final var spriteSnapshot = first.getSprites().get(0);
+        final double x = spriteSnapshot.getInterpolatedX(1);
+        final Set<GameSnapshot> buffers = new HashSet<>();
+        buffers.add(first);
+        for (int i = 0; i < 5; i++) {
+            simulation.tick();
+            simulationThread.publishSnapshot();
+            assertSame(first, simulationThread.getSnapshot());
+            assertEquals(0, first.getTick());
+            assertEquals(x, spriteSnapshot.getInterpolatedX(1), 1e-9);
+        }
+
+        for (int i = 0; i < 5; i++) {
+            simulation.tick();
+            simulationThread.publishSnapshot();
+            final var latest = simulationThread.acquireSnapshot();
+            assertEquals(simulation.getTickCount(), latest.getTick());
+            assertSame(latest, simulationThread.acquireSnapshot());
+            buffers.add(latest);
+        }
+        assertEquals(3, buffers.size());
+    }
+
+    @Test
+    public void testQueuedInputIsAppliedAtTickStart() {
+        final var simulation = new GameSimulation();
+        final var inputHandler = simulation.getGameInputHandler();
+        final var player = simulation.getPlayerController().getPlayer();
+
+        assertTrue(inputHandler.getInputQueue().offer(KeyCode.SPACE, true, System.nanoTime()));
+        assertFalse(player.isKeepShooting());
+        simulation.tick();
+        assertTrue(player.isKeepShooting());
+        assertTrue(inputHandler.getKeysPressed().contains(KeyCode.SPACE));
+
+        inputHandler.getInputQueue().offer(KeyCode.SPACE, false, System.nanoTime());
+        simulation.tick();
+        assertFalse(player.isKeepShooting());
+        assertEquals(0, inputHandler.getInputQueue().size());
+    }
+
+    @Test
+    public void testFullInputQueueKeepsTheLatestKeyState() {
+        final var simulation = new GameSimulation();
+        final var inputHandler = simulation.getGameInputHandler();
+        final var inputQueue = inputHandler.getInputQueue();
+        final var player = simulation.getPlayerController().getPlayer();
+
+        for (int i = 0; i < inputQueue.getCapacity(); i++) {
+            assertTrue(inputQueue.offer(KeyCode.A, i % 2 == 0, System.nanoTime()));
+        }
+        assertFalse(inputQueue.offer(KeyCode.SPACE, true, System.nanoTime()));
+        assertFalse(inputQueue.offer(KeyCode.SPACE, false, System.nanoTime()));
+        assertFalse(inputQueue.offer(KeyCode.D, true, System.nanoTime()));
+        assertEquals(3, inputQueue.getCoalesced());
+
+        simulation.tick();
+        assertFalse(inputHandler.getKeysPressed().contains(KeyCode.A));
+        assertFalse(inputHandler.getKeysPressed().contains(KeyCode.SPACE));
+        assertTrue(inputHandler.getKeysPressed().contains(KeyCode.D));
+        assertFalse(player.isKeepShooting());
+
+        assertTrue(inputQueue.offer(KeyCode.D, false, System.nanoTime()));
+        simulation.tick();
+        assertTrue(inputHandler.getKeysPressed().isEmpty());
+    }
+
+    @Test
+    public void testInputLatencyIsRecordedWhenTheTickIsRendered() {
+        final var simulation = new GameSimulation();
+        final var inputLatency = simulation.getGameInputHandler().getInputLatency();
+
+        simulation.getGameInputHandler().getInputQueue().offer(KeyCode.D, true, System.nanoTime() - 2_000_000);
+        simulation.tick();
+        inputLatency.rendered(simulation.getTickCount() - 1, System.nanoTime());
+        assertEquals(0, inputLatency.getInputToFrame().getCount());
+
+        inputLatency.rendered(simulation.getTickCount(), System.nanoTime());
+        assertEquals(1, inputLatency.getInputToFrame().getCount());
+        assertTrue(inputLatency.getInputToFrame().getPercentile(50) >= 2_000_000);
+        assertTrue(inputLatency.getInputToTick().getPercentile(99) <= inputLatency.getInputToFrame().getPercentile(99));
+    }
+
+    @Test
+    public void testRepeatedKeyPressesAreNotTracked() {
+        final var simulation = new GameSimulation();
+        final var inputQueue = simulation.getGameInputHandler().getInputQueue();
+        final var inputLatency = simulation.getGameInputHandler().getInputLatency();
+
+        inputQueue.offer(KeyCode.LEFT, true, System.nanoTime());
+        inputQueue.offer(KeyCode.LEFT, true, System.nanoTime());
+        simulation.tick();
+        inputQueue.offer(KeyCode.LEFT, true, System.nanoTime());
+        inputQueue.offer(KeyCode.LEFT, false, System.nanoTime());
+        simulation.tick();
+        inputLatency.rendered(simulation.getTickCount(), System.nanoTime());
+        assertEquals(2, inputLatency.getInputToFrame().getCount());
+    }
+
+    @Test
+    public void testPhaseMetricsArePublishedPerWindow() {
+        final var simulation = new GameSimulation(new GameState(), new GameInputHandler(), 10);
+        assertEquals(0, simulation.getPhaseMetrics().getSummary().samples(PhaseMetrics.Phase.COLLISIONS));
+
+        for (int i = 0; i < 10 && !simulation.isGameOver(); i++) {
+            simulation.tick();
+        }
+        final var summary = simulation.getPhaseMetrics().getSummary();
+        assertEquals(10, summary.samples(PhaseMetrics.Phase.COLLISIONS));
+        assertEquals(0, summary.samples(PhaseMetrics.Phase.RENDER));
+        assertTrue(summary.p50(PhaseMetrics.Phase.UPDATE) <= summary.p99(PhaseMetrics.Phase.UPDATE));
+    }
+
+    @Test
+    public void testRunsHeadlessFasterThanRealTime() {
+        final var simulation = new GameSimulation();
+        final long start = System.nanoTime();
+        for (int i = 0; i < 10_000 && !simulation.isGameOver(); i++) {
+            simulation.tick();
+        }
+        final double simulatedSeconds = simulation.getTickCount() * simulation.getTickDuration();
+        final double realSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        assertTrue(simulation.getTickCount() > 0);
+        assertTrue(simulatedSeconds > realSeconds, "simulation should run faster than real time");
+        assertTrue(simulation.getGameState().getSprites().contains(simulation.getPlayerController().getPlayer()) || simulation.isGameOver());
+    }
+}
@@ -0,0 +1,75 @@
+package h13.controller.gamelogic;
+
+import h13.controller.GameConstants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the {@link HitchRecorder}.
+ */
+public class HitchRecorderTest {
+
+    @Test
+    public void testHitchDumpsThePrecedingFramesOncePerWindow(@TempDir final Path directory) throws Exception {
+        final var recorder = new HitchRecorder(directory);
+        final var simulationMetrics = new PhaseMetrics();
+        final var renderMetrics = new PhaseMetrics();
+        final long fastFrame = 16_000_000;
+        final long slowFrame = (long) (GameConstants.HITCH_THRESHOLD * 2e9);
+
+        simulationMetrics.record(PhaseMetrics.Phase.UPDATE, 2_000_000);
+        recorder.record(fastFrame, simulationMetrics, renderMetrics, 3, 1, 1, -1, true);
+        renderMetrics.record(PhaseMetrics.Phase.RENDER, 500_000);
+        recorder.record(slowFrame, simulationMetrics, renderMetrics, 4, 2, 1, -1, false);
+        assertEquals(0, recorder.getDumpCount());
+        assertNull(recorder.getLastDump());
+
+        recorder.record(slowFrame, simulationMetrics, renderMetrics, 5, 3, 1, -1, true);
+        assertEquals(1, recorder.getDumpCount());
+        assertNotNull(recorder.getLastDump());
+        recorder.getLastDump().get(10, TimeUnit.SECONDS);
+        recorder.record(slowFrame, simulationMetrics, renderMetrics, 5, 3, 1, -1, true);
+        assertEquals(1, recorder.getDumpCount());
+
+        final List<Path> dumps;
+        try (Stream<Path> files = Files.list(directory)) {
+            dumps = files.toList();
+        }
+        assertEquals(1, dumps.size());
+        assertTrue(dumps.get(0).getFileName().toString().matches("hitch-.*\\.csv"));
+
+        final List<String> lines = Files.readAllLines(dumps.get(0));
+        assertEquals(4, lines.size());
+        assertEquals("frame,time_ms,frame_ms,input_us,spawn_us,update_us,collisions_us,sweep_us,refill_us,render_us,"
+            + "sprites,bullets,enemies,gc,allocated_kb", lines.get(0));
+
+        final String[] first = lines.get(1).split(",");
+        assertEquals("0", first[0]);
+        assertEquals("0.000", first[1]);
+        assertEquals("16.000", first[2]);
+        assertEquals("2000.0", first[5]);
+        assertEquals("0.0", first[9]);
+        assertEquals("3", first[10]);
+
+        final String[] second = lines.get(2).split(",");
+        assertEquals("0.0", second[5]);
+        assertEquals("500.0", second[9]);
+
+        final String[] hitch = lines.get(3).split(",");
+        assertEquals("2", hitch[0]);
+        assertEquals(String.format(Locale.ROOT, "%.3f", slowFrame / 1e6), hitch[2]);
+        assertEquals("5", hitch[10]);
+        assertEquals("3", hitch[11]);
+        assertEquals("1", hitch[12]);
+        assertEquals(lines.get(0).split(",").length, hitch.length);
+    }
+}
@@ -0,0 +1,94 @@
+package h13.model.gameplay.sprites;
+
+import h13.controller.ApplicationSettings;
+import h13.model.gameplay.Direction;
+import h13.model.gameplay.EnemyMovement;
+import h13.model.gameplay.Formation;
+import h13.model.gameplay.GameState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static h13.controller.GameConstants.HUD_HEIGHT;
+import static h13.controller.GameConstants.PLAYER_VELOCITY;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that moving, clamping and bounds-checking {@linkplain Sprite sprites} and moving the {@link Formation} of the
+ * enemies does not allocate heap memory.
+ */
+public class SpriteAllocationTest {
+
+    /**
+     * The amount of updates per measurement. Allocating even a single object per update would exceed {@link #TOLERANCE}.
+     */
+    private static final int ITERATIONS = 100_000;
+
+    /**
+     * The amount of bytes tolerated for measurement noise.
+     */
+    private static final long TOLERANCE = 4096;
+
+    private Player player;
+    private Bullet bullet;
+    private Enemy enemy;
+    private EnemyMovement enemyMovement;
+
+    @BeforeEach
+    public void setup() {
+        ApplicationSettings.loadTexturesProperty().set(false);
+        final GameState gameState = new GameState();
+        player = new Player(100, 100, PLAYER_VELOCITY, gameState);
+        bullet = new Bullet(100, 100, gameState, player, Direction.UP);
+        enemy = new Enemy(0, 0, 0, 0, gameState);
+        enemy.setX(100);
+        enemy.setY(HUD_HEIGHT);
+        gameState.getSprites().add(enemy);
+        enemyMovement = gameState.getEnemyMovement();
+    }
+
+    /**
+     * Gets the amount of bytes allocated by the current thread so far.
+     *
+     * @return The amount of bytes allocated by the current thread.
+     */
+    private static long allocatedBytes() {
+        final var bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Runs the hot path of one simulation tick for the test sprites. The formation is moved back regularly, so it never
+     * reaches an edge: turning allocates the bounds that are passed to {@link EnemyMovement#nextMovement}, which only
+     * happens a few times per round.
+     */
+    private void runUpdates() {
+        final Formation formation = enemy.getFormation();
+        for (int i = 0; i < ITERATIONS; i++) {
+            player.setDirection(i % 2 == 0 ? Direction.LEFT : Direction.RIGHT);
+            player.update(1 / 120.0);
+            if (i % 1000 == 0) {
+                formation.translate(100 - formation.getMinX(), HUD_HEIGHT - formation.getMinY());
+            }
+            enemyMovement.update(1 / 120.0);
+            bullet.setX(enemy.getX());
+            bullet.setY(enemy.getY() + enemy.getHeight());
+            bullet.update(1 / 120.0);
+            assertTrue(bullet.canHit(enemy));
+        }
+    }
+
+    @Test
+    public void testUpdateDoesNotAllocate() {
+        // warm up, so that class loading and JIT compilation are not measured
+        runUpdates();
+
+        final long before = allocatedBytes();
+        runUpdates();
+        final long allocated = allocatedBytes() - before;
+
+        assertTrue(allocated < TOLERANCE, "Sprite updates allocated " + allocated + " bytes");
+        assertTrue(enemy.getX() > 100, "The formation did not move");
+    }
+}